@@ -8,6 +8,11 @@ echo "> Current port of running WAS is ${CURRENT_PORT}."
 
 source /home/ec2-user/app/export.sh
 
+if [ -z "${SERVICE_CLIENT_SECRET}" ]; then
+  echo "> SERVICE_CLIENT_SECRET is not set in export.sh."
+  exit 1
+fi
+
 if [ ${CURRENT_PORT} -eq 8080 ]; then
   TARGET_PORT=8081
 elif [ ${CURRENT_PORT} -eq 8081 ]; then
@@ -23,7 +28,7 @@ if [ ! -z ${TARGET_PID} ]; then
   sudo kill ${TARGET_PID}
 fi
 
-nohup java -jar -Dserver.port=${TARGET_PORT} /home/ec2-user/app/target/*.jar --spring.profiles.active=prod --spring.datasource.url=${DATABASE_URL} --spring.datasource.username=${DATABASE_USERNAME} --spring.datasource.password=${DATABASE_PASSWORD} --server.tomcat.basedir=${LOG_DIR} --my-app.client-id=${APP_CLIENT_ID} --my-app.client-secret=${APP_CLIENT_SECRET} --my-app.get-token-endpoint-url=${GET_TOKEN_ENDPOINT_URL} --my-app.resource-post-endpoint-url=${RESOURCE_POST_ENDPOINT_URL} > /home/ec2-user/nohup.out 2>&1 &
+nohup java -jar -Dserver.port=${TARGET_PORT} /home/ec2-user/app/target/*.jar --spring.profiles.active=prod --spring.datasource.url=${DATABASE_URL} --spring.datasource.username=${DATABASE_USERNAME} --spring.datasource.password=${DATABASE_PASSWORD} --server.tomcat.basedir=${LOG_DIR} --my-app.client-id=${APP_CLIENT_ID} --my-app.client-secret=${APP_CLIENT_SECRET} --my-app.get-token-endpoint-url=${GET_TOKEN_ENDPOINT_URL} --my-app.resource-post-endpoint-url=${RESOURCE_POST_ENDPOINT_URL} --my-app.service-client.secret=${SERVICE_CLIENT_SECRET} > /home/ec2-user/nohup.out 2>&1 &
 echo "> Now new WAS runs at ${TARGET_PORT}."
 exit 0
 
@@ -8,21 +8,32 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Getter
 public class AccountAdapter extends User {
+    private static final Map<AccountRole, GrantedAuthority> AUTHORITIES = new EnumMap<>(AccountRole.class);
+
+    static {
+        for (AccountRole role : AccountRole.values()) {
+            AUTHORITIES.put(role, new SimpleGrantedAuthority("ROLE_" + role.name()));
+        }
+    }
+
     private Account account;
 
     public AccountAdapter(Account account) {
-        super(account.getUsername(), account.getPassword(), authorities(account.getRoles()));
+        super(account.getUsername(), account.getPassword() == null ? "" : account.getPassword(),
+                account.getDeletionRequestedAt() == null, true, true, true, authorities(account.getRoles()));
         this.account = account;
     }
 
     private static Collection<? extends GrantedAuthority> authorities(Set<AccountRole> roles) {
         return roles.stream()
-                .map(r -> new SimpleGrantedAuthority("ROLE_" + r.name()))
+                .map(AUTHORITIES::get)
                 .collect(Collectors.toList());
 
     }
@@ -0,0 +1,52 @@
+package com.gurumee.demoboardauthapi.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of accounts by username.
+ * Concurrent misses for the same username wait on a single load instead of each querying the database.
+ * Cached accounts are shared, so callers must treat them as read-only.
+ */
+@Component
+public class AccountCache {
+    public static final String CACHE_NAME = "accounts";
+
+    private final Cache<String, Account> cache;
+
+    public AccountCache(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(appProperties.getAccountCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(appProperties.getAccountCacheTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<Account> get(String username, Function<String, Optional<Account>> loader) {
+        return Optional.ofNullable(cache.get(username, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void evict(String username) {
+        cache.invalidate(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+}
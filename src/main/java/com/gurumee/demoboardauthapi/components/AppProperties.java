@@ -20,4 +20,196 @@ public class AppProperties {
 
     @Value("${my-app.resource-post-endpoint-url}")
     private String resourcePostEndpointUrl;
+
+    @Value("${my-app.cors.allowed-origin:*}")
+    private String corsAllowedOrigin;
+
+    @Value("${my-app.cors.allow-credentials:true}")
+    private boolean corsAllowCredentials;
+
+    @Value("${my-app.cors.allowed-methods:*}")
+    private String corsAllowedMethods;
+
+    @Value("${my-app.cors.allowed-headers:Origin, X-Requested-With, Content-Type, Accept, Key, Authorization}")
+    private String corsAllowedHeaders;
+
+    @Value("${my-app.cors.max-age-seconds:3600}")
+    private long corsMaxAgeSeconds;
+
+    @Value("${my-app.client-cache.maximum-size:1000}")
+    private long clientCacheMaximumSize;
+
+    @Value("${my-app.client-cache.ttl-seconds:60}")
+    private long clientCacheTtlSeconds;
+
+    @Value("${my-app.service-client.id:post-cleanup}")
+    private String serviceClientId;
+
+    @Value("${my-app.service-client.secret:}")
+    private String serviceClientSecret;
+
+    @Value("${my-app.service-client.scope:write}")
+    private String serviceClientScope;
+
+    @Value("${my-app.client-secret-cache.maximum-size:1000}")
+    private long clientSecretCacheMaximumSize;
+
+    @Value("${my-app.client-secret-cache.ttl-seconds:300}")
+    private long clientSecretCacheTtlSeconds;
+
+    @Value("${my-app.token-cache.maximum-size:10000}")
+    private long tokenCacheMaximumSize;
+
+    @Value("${my-app.token-cache.ttl-seconds:300}")
+    private long tokenCacheTtlSeconds;
+
+    @Value("${my-app.token-store.serializer:compact}")
+    private String tokenStoreSerializer;
+
+    @Value("${my-app.token-store.migration-batch-size:500}")
+    private int tokenStoreMigrationBatchSize;
+
+    @Value("${my-app.token-purge.batch-size:500}")
+    private int tokenPurgeBatchSize;
+
+    @Value("${my-app.token-purge.batch-pause-millis:100}")
+    private long tokenPurgeBatchPauseMillis;
+
+    @Value("${my-app.token-purge.max-batches-per-run:200}")
+    private int tokenPurgeMaxBatchesPerRun;
+
+    @Value("${my-app.token.mode:opaque}")
+    private String tokenMode;
+
+    @Value("${my-app.token.signing-key:}")
+    private String tokenSigningKey;
+
+    @Value("${my-app.token.denylist-maximum-size:10000}")
+    private long tokenDenylistMaximumSize;
+
+    @Value("${my-app.token.denylist-lookup-ttl-seconds:5}")
+    private long tokenDenylistLookupTtlSeconds;
+
+    @Value("${my-app.token.revocation-retention-seconds:2592000}")
+    private long tokenRevocationRetentionSeconds;
+
+    @Value("${my-app.password-encoder.pool-size:0}")
+    private int passwordEncoderPoolSize;
+
+    @Value("${my-app.password-encoder.queue-capacity:64}")
+    private int passwordEncoderQueueCapacity;
+
+    @Value("${my-app.password-encoder.retry-after-seconds:1}")
+    private long passwordEncoderRetryAfterSeconds;
+
+    @Value("${my-app.password-encoder.target-hash-millis:250}")
+    private long passwordEncoderTargetHashMillis;
+
+    @Value("${my-app.password-encoder.min-strength:10}")
+    private int passwordEncoderMinStrength;
+
+    @Value("${my-app.password-encoder.max-strength:14}")
+    private int passwordEncoderMaxStrength;
+
+    @Value("${my-app.account-cache.maximum-size:10000}")
+    private long accountCacheMaximumSize;
+
+    @Value("${my-app.account-cache.ttl-seconds:5}")
+    private long accountCacheTtlSeconds;
+
+    @Value("${my-app.username-filter.expected-insertions:100000}")
+    private long usernameFilterExpectedInsertions;
+
+    @Value("${my-app.username-filter.false-positive-probability:0.01}")
+    private double usernameFilterFalsePositiveProbability;
+
+    @Value("${my-app.account-import.batch-size:500}")
+    private int accountImportBatchSize;
+
+    @Value("${my-app.account-import.hash-threads:0}")
+    private int accountImportHashThreads;
+
+    @Value("${my-app.account-import.job-retention-seconds:86400}")
+    private long accountImportJobRetentionSeconds;
+
+    @Value("${my-app.account-export.page-size:1000}")
+    private int accountExportPageSize;
+
+    @Value("${my-app.account-export.timeout-millis:3600000}")
+    private long accountExportTimeoutMillis;
+
+    @Value("${my-app.post-client.max-total:50}")
+    private int postClientMaxTotal;
+
+    @Value("${my-app.post-client.max-per-route:20}")
+    private int postClientMaxPerRoute;
+
+    @Value("${my-app.post-client.connect-timeout-millis:2000}")
+    private int postClientConnectTimeoutMillis;
+
+    @Value("${my-app.post-client.read-timeout-millis:5000}")
+    private int postClientReadTimeoutMillis;
+
+    @Value("${my-app.post-client.connection-request-timeout-millis:1000}")
+    private int postClientConnectionRequestTimeoutMillis;
+
+    @Value("${my-app.post-client.idle-eviction-seconds:30}")
+    private long postClientIdleEvictionSeconds;
+
+    @Value("${my-app.post-client.delete-chunk-size:100}")
+    private int postClientDeleteChunkSize;
+
+    @Value("${my-app.post-client.delete-max-in-flight:4}")
+    private int postClientDeleteMaxInFlight;
+
+    @Value("${my-app.post-client.page-size:100}")
+    private int postClientPageSize;
+
+    @Value("${my-app.post-client.page-size-param:size}")
+    private String postClientPageSizeParam;
+
+    @Value("${my-app.post-client.cursor-param:cursor}")
+    private String postClientCursorParam;
+
+    @Value("${my-app.post-client.circuit-breaker.failure-rate-threshold:50}")
+    private float postClientCircuitBreakerFailureRateThreshold;
+
+    @Value("${my-app.post-client.circuit-breaker.slow-call-rate-threshold:80}")
+    private float postClientCircuitBreakerSlowCallRateThreshold;
+
+    @Value("${my-app.post-client.circuit-breaker.slow-call-duration-millis:3000}")
+    private long postClientCircuitBreakerSlowCallDurationMillis;
+
+    @Value("${my-app.post-client.circuit-breaker.sliding-window-size:20}")
+    private int postClientCircuitBreakerSlidingWindowSize;
+
+    @Value("${my-app.post-client.circuit-breaker.minimum-number-of-calls:10}")
+    private int postClientCircuitBreakerMinimumNumberOfCalls;
+
+    @Value("${my-app.post-client.circuit-breaker.wait-in-open-seconds:30}")
+    private long postClientCircuitBreakerWaitInOpenSeconds;
+
+    @Value("${my-app.post-client.circuit-breaker.permitted-calls-in-half-open:3}")
+    private int postClientCircuitBreakerPermittedCallsInHalfOpen;
+
+    @Value("${my-app.post-client.bulkhead.max-concurrent-calls:10}")
+    private int postClientBulkheadMaxConcurrentCalls;
+
+    @Value("${my-app.post-client.bulkhead.max-wait-millis:0}")
+    private long postClientBulkheadMaxWaitMillis;
+
+    @Value("${my-app.account-deletion.batch-size:50}")
+    private int accountDeletionBatchSize;
+
+    @Value("${my-app.account-deletion.lease-seconds:300}")
+    private long accountDeletionLeaseSeconds;
+
+    @Value("${my-app.account-deletion.retry-base-seconds:10}")
+    private long accountDeletionRetryBaseSeconds;
+
+    @Value("${my-app.account-deletion.retry-max-seconds:3600}")
+    private long accountDeletionRetryMaxSeconds;
+
+    @Value("${my-app.account-deletion.max-attempts:20}")
+    private int accountDeletionMaxAttempts;
 }
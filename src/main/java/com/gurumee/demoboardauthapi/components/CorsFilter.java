@@ -1,41 +1,57 @@
 package com.gurumee.demoboardauthapi.components;
 
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsUtils;
 
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 
+/**
+ * The only CORS layer of the application.
+ * Header values come from {@link AppProperties} once at startup, and preflight requests are answered
+ * here before they reach the security chain.
+ */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
-@Slf4j
 public class CorsFilter implements Filter {
+    private final String allowedOrigin;
+    private final String allowCredentials;
+    private final String allowedMethods;
+    private final String maxAge;
+    private final String allowedHeaders;
+
+    public CorsFilter(AppProperties appProperties) {
+        this.allowedOrigin = appProperties.getCorsAllowedOrigin();
+        this.allowCredentials = String.valueOf(appProperties.isCorsAllowCredentials());
+        this.allowedMethods = appProperties.getCorsAllowedMethods();
+        this.maxAge = String.valueOf(appProperties.getCorsMaxAgeSeconds());
+        this.allowedHeaders = appProperties.getCorsAllowedHeaders();
+    }
+
     @Override
-    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain){
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
         HttpServletResponse response = (HttpServletResponse) res;
         HttpServletRequest request = (HttpServletRequest) req;
-        response.setHeader("Access-Control-Allow-Origin", "*");
-        response.setHeader("Access-Control-Allow-Credentials", "true");
-        response.setHeader("Access-Control-Allow-Methods","*");
-        response.setHeader("Access-Control-Max-Age", "3600");
-        response.setHeader("Access-Control-Allow-Headers",
-                "Origin, X-Requested-With, Content-Type, Accept, Key, Authorization");
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, allowedOrigin);
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, allowCredentials);
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, allowedMethods);
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE, maxAge);
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, allowedHeaders);
 
-        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+        if (CorsUtils.isPreFlightRequest(request)) {
             response.setStatus(HttpServletResponse.SC_OK);
             return;
         }
 
-        try {
-            chain.doFilter(req, res);
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
+        chain.doFilter(req, res);
     }
 }
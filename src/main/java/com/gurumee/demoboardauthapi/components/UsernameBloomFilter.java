@@ -0,0 +1,205 @@
+package com.gurumee.demoboardauthapi.components;
+
+import com.gurumee.demoboardauthapi.repositories.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Counting Bloom filter of the usernames in the account table, filled at startup and rebuilt on a schedule.
+ * Once it is ready, {@link #mightContain} never returns false for a username created through this instance,
+ * so a miss lets callers skip the database. Until then every username is reported as a possible hit.
+ * Usernames created on other instances are only seen after the next rebuild, so a miss is a hint that may be
+ * {@code rebuild-interval-millis} stale; the unique key on username still decides every signup.
+ * Usernames are hashed by a key folded like the column's case- and accent-insensitive collation,
+ * so "Test" hits when "test" exists; names that fold together without colliding in the database only add false positives.
+ * Counters are 4 bits wide and stay put once saturated, which can only add false positives.
+ */
+@Component
+@Slf4j
+public class UsernameBloomFilter implements ApplicationRunner {
+    private static final int COUNTER_BITS = 4;
+    private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+    private static final long COUNTER_MAX = (1L << COUNTER_BITS) - 1;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final AccountRepository accountRepository;
+    private final int numCounters;
+    private final int numHashes;
+    private volatile AtomicLongArray counters;
+    private volatile AtomicLongArray rebuilding;
+    private volatile boolean ready;
+
+    public UsernameBloomFilter(AppProperties appProperties, AccountRepository accountRepository) {
+        long expected = Math.max(1, appProperties.getUsernameFilterExpectedInsertions());
+        double fpp = appProperties.getUsernameFilterFalsePositiveProbability();
+        long size = (long) Math.ceil(-expected * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+
+        this.accountRepository = accountRepository;
+        this.numCounters = (int) Math.min(Integer.MAX_VALUE - COUNTERS_PER_WORD, Math.max(COUNTERS_PER_WORD, size));
+        this.numHashes = Math.max(1, (int) Math.round((double) numCounters / expected * Math.log(2)));
+        this.counters = new AtomicLongArray((numCounters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    /**
+     * Counts the account table into fresh counters and swaps them in.
+     * Adds made during the scan go to both arrays; removals only reach the live one,
+     * which at worst leaves a false positive until the next rebuild.
+     */
+    @Scheduled(fixedDelayString = "${my-app.username-filter.rebuild-interval-millis:60000}",
+            initialDelayString = "${my-app.username-filter.rebuild-interval-millis:60000}")
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        AtomicLongArray fresh = new AtomicLongArray(counters.length());
+        long count = 0;
+        rebuilding = fresh;
+
+        try (Stream<String> usernames = accountRepository.streamAllUsernames()) {
+            for (String username : (Iterable<String>) usernames::iterator) {
+                add(fresh, hash(username));
+                count++;
+            }
+
+            counters = fresh;
+            ready = true;
+        } finally {
+            rebuilding = null;
+        }
+
+        log.info("username filter is rebuilt with {} usernames, {} counters, {} hashes", count, numCounters, numHashes);
+    }
+
+    public boolean mightContain(String username) {
+        if (!ready) {
+            return true;
+        }
+
+        AtomicLongArray live = counters;
+        long hash = hash(username);
+
+        for (int i = 0; i < numHashes; i++) {
+            if (counter(live, index(hash, i)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public void add(String username) {
+        // read the rebuild first: once it is cleared, the live counters are already the rebuilt ones
+        AtomicLongArray building = rebuilding;
+        AtomicLongArray live = counters;
+        long hash = hash(username);
+
+        if (building != null && building != live) {
+            add(building, hash);
+        }
+
+        add(live, hash);
+    }
+
+    private void add(AtomicLongArray target, long hash) {
+        for (int i = 0; i < numHashes; i++) {
+            update(target, index(hash, i), 1);
+        }
+    }
+
+    /**
+     * Removes the username once the surrounding transaction commits.
+     * Removals before the filter is ready are dropped, as the startup scan may not have counted the username yet.
+     */
+    public void remove(String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removeNow(username);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removeNow(username);
+            }
+        });
+    }
+
+    private void removeNow(String username) {
+        if (!ready) {
+            return;
+        }
+
+        AtomicLongArray live = counters;
+        long hash = hash(username);
+
+        for (int i = 0; i < numHashes; i++) {
+            update(live, index(hash, i), -1);
+        }
+    }
+
+    private long counter(AtomicLongArray counters, int index) {
+        int shift = (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+        return (counters.get(index / COUNTERS_PER_WORD) >>> shift) & COUNTER_MAX;
+    }
+
+    private void update(AtomicLongArray counters, int index, int delta) {
+        int word = index / COUNTERS_PER_WORD;
+        int shift = (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+
+        while (true) {
+            long current = counters.get(word);
+            long value = (current >>> shift) & COUNTER_MAX;
+
+            if (value == COUNTER_MAX || (delta < 0 && value == 0)) {
+                return;
+            }
+
+            if (counters.compareAndSet(word, current, current + ((long) delta << shift))) {
+                return;
+            }
+        }
+    }
+
+    private int index(long hash, int i) {
+        int combined = (int) hash + i * (int) (hash >>> 32);
+        return (combined & Integer.MAX_VALUE) % numCounters;
+    }
+
+    private static String key(String username) {
+        String stripped = COMBINING_MARKS.matcher(Normalizer.normalize(username, Normalizer.Form.NFD)).replaceAll("");
+        return stripped.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT).stripTrailing();
+    }
+
+    private static long hash(String username) {
+        String key = key(username);
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,39 @@
+package com.gurumee.demoboardauthapi.components;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Tells a duplicate username apart from other integrity errors raised by an account insert.
+ * JPA reports every constraint violation as a plain {@link DataIntegrityViolationException},
+ * so the underlying SQL error is translated again with the database's own error codes.
+ * The unique key on username is the only one an account insert can break besides the generated primary key.
+ */
+@Component
+public class UsernameConflictDetector {
+    private final SQLExceptionTranslator translator;
+
+    public UsernameConflictDetector(DataSource dataSource) {
+        this.translator = new SQLErrorCodeSQLExceptionTranslator(dataSource);
+    }
+
+    public boolean isConflict(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException) {
+                return translator.translate("insert account", null, (SQLException) cause) instanceof DuplicateKeyException;
+            }
+        }
+
+        return false;
+    }
+}
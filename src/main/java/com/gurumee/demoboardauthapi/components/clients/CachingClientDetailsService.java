@@ -0,0 +1,78 @@
+package com.gurumee.demoboardauthapi.components.clients;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.provider.ClientDetails;
+import org.springframework.security.oauth2.provider.ClientDetailsService;
+import org.springframework.security.oauth2.provider.ClientRegistrationService;
+import org.springframework.security.oauth2.provider.client.JdbcClientDetailsService;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read-through cache in front of {@link JdbcClientDetailsService}.
+ * Registrations made through this service evict the client right away,
+ * changes made directly in the table show up once the ttl has passed or after {@link #evict(String)}.
+ */
+public class CachingClientDetailsService implements ClientDetailsService, ClientRegistrationService {
+    public static final String CACHE_NAME = "oauth-client-details";
+
+    private final JdbcClientDetailsService delegate;
+    private final Cache<String, ClientDetails> cache;
+
+    public CachingClientDetailsService(JdbcClientDetailsService delegate, long maximumSize, Duration ttl,
+                                       MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public ClientDetails loadClientByClientId(String clientId) {
+        return cache.get(clientId, delegate::loadClientByClientId);
+    }
+
+    @Override
+    public void addClientDetails(ClientDetails clientDetails) {
+        delegate.addClientDetails(clientDetails);
+        evict(clientDetails.getClientId());
+    }
+
+    @Override
+    public void updateClientDetails(ClientDetails clientDetails) {
+        delegate.updateClientDetails(clientDetails);
+        evict(clientDetails.getClientId());
+    }
+
+    @Override
+    public void updateClientSecret(String clientId, String secret) {
+        delegate.updateClientSecret(clientId, secret);
+        evict(clientId);
+    }
+
+    @Override
+    public void removeClientDetails(String clientId) {
+        delegate.removeClientDetails(clientId);
+        evict(clientId);
+    }
+
+    @Override
+    public List<ClientDetails> listClientDetails() {
+        return delegate.listClientDetails();
+    }
+
+    public void evict(String clientId) {
+        cache.invalidate(clientId);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
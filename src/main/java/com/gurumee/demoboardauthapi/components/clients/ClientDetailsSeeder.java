@@ -0,0 +1,54 @@
+package com.gurumee.demoboardauthapi.components.clients;
+
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.oauth2.provider.ClientAlreadyExistsException;
+import org.springframework.security.oauth2.provider.NoSuchClientException;
+import org.springframework.security.oauth2.provider.client.BaseClientDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers the clients configured in {@link AppProperties} when the client table does not have them yet:
+ * the app client for the password grant and the service client for the client_credentials grant.
+ * An existing row is never overwritten, so clients can be managed in the table afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClientDetailsSeeder implements ApplicationRunner {
+    private final CachingClientDetailsService clientDetailsService;
+    private final AppProperties appProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        BaseClientDetails appClient = new BaseClientDetails(appProperties.getClientId(), null, "read,write", "password", null);
+        appClient.setClientSecret(appProperties.getClientSecret());
+        appClient.setAccessTokenValiditySeconds(30000);
+        register(appClient);
+
+        BaseClientDetails serviceClient = new BaseClientDetails(appProperties.getServiceClientId(), null,
+                appProperties.getServiceClientScope(), "client_credentials", "ROLE_SERVICE");
+        serviceClient.setClientSecret(appProperties.getServiceClientSecret());
+        register(serviceClient);
+    }
+
+    private void register(BaseClientDetails clientDetails) {
+        String clientId = clientDetails.getClientId();
+
+        try {
+            clientDetailsService.loadClientByClientId(clientId);
+            return;
+        } catch (NoSuchClientException e) {
+            log.info("register client {}", clientId);
+        }
+
+        try {
+            clientDetailsService.addClientDetails(clientDetails);
+        } catch (ClientAlreadyExistsException e) {
+            log.info("client {} was registered concurrently", clientId);
+        }
+    }
+}
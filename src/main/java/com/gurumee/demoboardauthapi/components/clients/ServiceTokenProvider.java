@@ -0,0 +1,72 @@
+package com.gurumee.demoboardauthapi.components.clients;
+
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Access token of this service's own client, fetched with the client_credentials grant when needed
+ * and reused until shortly before it expires.
+ * Background jobs call other APIs with it, so no user token has to be kept around for them.
+ * Account deletion can not finish without it, so a missing secret fails the startup.
+ */
+@Component
+public class ServiceTokenProvider {
+    private static final long EXPIRY_SKEW_SECONDS = 30;
+
+    private final AppProperties appProperties;
+    private final RestTemplate restTemplate;
+    private String accessToken;
+    private Instant expiresAt = Instant.MIN;
+
+    public ServiceTokenProvider(AppProperties appProperties, RestTemplate restTemplate) {
+        if (!StringUtils.hasText(appProperties.getServiceClientSecret())) {
+            throw new IllegalStateException("my-app.service-client.secret must be set");
+        }
+
+        this.appProperties = appProperties;
+        this.restTemplate = restTemplate;
+    }
+
+    public synchronized String getAuthorization() {
+        if (accessToken == null || !Instant.now().isBefore(expiresAt)) {
+            fetch();
+        }
+
+        return "Bearer " + accessToken;
+    }
+
+    public synchronized void invalidate() {
+        accessToken = null;
+    }
+
+    private void fetch() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth(appProperties.getServiceClientId(), appProperties.getServiceClientSecret());
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("grant_type", "client_credentials");
+        form.add("scope", appProperties.getServiceClientScope());
+
+        Map<?, ?> response = restTemplate.postForObject(appProperties.getGetTokenEndpointUrl(),
+                new HttpEntity<>(form, headers), Map.class);
+
+        if (response == null || response.get("access_token") == null) {
+            throw new IllegalStateException("service token response has no access_token");
+        }
+
+        Object expiresIn = response.get("expires_in");
+        long seconds = expiresIn instanceof Number ? ((Number) expiresIn).longValue() : 0;
+        accessToken = response.get("access_token").toString();
+        expiresAt = Instant.now().plusSeconds(Math.max(0, seconds - EXPIRY_SKEW_SECONDS));
+    }
+}
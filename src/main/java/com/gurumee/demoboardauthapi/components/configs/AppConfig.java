@@ -1,37 +1,211 @@
 package com.gurumee.demoboardauthapi.components.configs;
 
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.components.clients.CachingClientDetailsService;
+import com.gurumee.demoboardauthapi.components.passwords.BCryptStrengthCalibrator;
+import com.gurumee.demoboardauthapi.components.passwords.BoundedPasswordEncoder;
+import com.gurumee.demoboardauthapi.components.tokens.AccountUserAuthenticationConverter;
+import com.gurumee.demoboardauthapi.components.tokens.AuthenticationSerializer;
+import com.gurumee.demoboardauthapi.components.tokens.CachingTokenStore;
+import com.gurumee.demoboardauthapi.components.tokens.CompactAuthenticationSerializer;
+import com.gurumee.demoboardauthapi.components.tokens.DenylistJwtTokenStore;
+import com.gurumee.demoboardauthapi.components.tokens.JavaAuthenticationSerializer;
+import com.gurumee.demoboardauthapi.components.tokens.JdbcTokenDenylist;
+import com.gurumee.demoboardauthapi.components.tokens.RevocableTokenStore;
+import com.gurumee.demoboardauthapi.components.tokens.SerializingJdbcTokenStore;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
 import lombok.RequiredArgsConstructor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
 import org.springframework.security.oauth2.provider.approval.ApprovalStore;
 import org.springframework.security.oauth2.provider.approval.JdbcApprovalStore;
-import org.springframework.security.oauth2.provider.token.TokenStore;
-import org.springframework.security.oauth2.provider.token.store.JdbcTokenStore;
+import org.springframework.security.oauth2.provider.client.JdbcClientDetailsService;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @RequiredArgsConstructor
 public class AppConfig {
     private final DataSource dataSource;
+    private final AppProperties appProperties;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        int poolSize = appProperties.getPasswordEncoderPoolSize() > 0
+                ? appProperties.getPasswordEncoderPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+        int strength = BCryptStrengthCalibrator.calibrate(
+                Duration.ofMillis(appProperties.getPasswordEncoderTargetHashMillis()),
+                appProperties.getPasswordEncoderMinStrength(),
+                appProperties.getPasswordEncoderMaxStrength());
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(strength));
+        encoders.put("pbkdf2", new Pbkdf2PasswordEncoder());
+        encoders.put("scrypt", new SCryptPasswordEncoder());
+        encoders.put("noop", NoOpPasswordEncoder.getInstance());
+
+        return new BoundedPasswordEncoder(
+                new DelegatingPasswordEncoder("bcrypt", encoders),
+                poolSize,
+                appProperties.getPasswordEncoderQueueCapacity(),
+                appProperties.getPasswordEncoderRetryAfterSeconds(),
+                meterRegistry
+        );
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager postClientConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(appProperties.getPostClientMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(appProperties.getPostClientMaxPerRoute());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "post-api").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient postHttpClient(PoolingHttpClientConnectionManager postClientConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(appProperties.getPostClientConnectTimeoutMillis())
+                .setSocketTimeout(appProperties.getPostClientReadTimeoutMillis())
+                .setConnectionRequestTimeout(appProperties.getPostClientConnectionRequestTimeoutMillis())
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(postClientConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(appProperties.getPostClientIdleEvictionSeconds(), TimeUnit.SECONDS)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient postHttpClient) {
+        return new RestTemplateBuilder()
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(postHttpClient))
+                .build();
+    }
+
+    @Bean
+    public CircuitBreaker postApiCircuitBreaker() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(appProperties.getPostClientCircuitBreakerFailureRateThreshold())
+                .slowCallRateThreshold(appProperties.getPostClientCircuitBreakerSlowCallRateThreshold())
+                .slowCallDurationThreshold(Duration.ofMillis(appProperties.getPostClientCircuitBreakerSlowCallDurationMillis()))
+                .slidingWindowSize(appProperties.getPostClientCircuitBreakerSlidingWindowSize())
+                .minimumNumberOfCalls(appProperties.getPostClientCircuitBreakerMinimumNumberOfCalls())
+                .waitDurationInOpenState(Duration.ofSeconds(appProperties.getPostClientCircuitBreakerWaitInOpenSeconds()))
+                .permittedNumberOfCallsInHalfOpenState(appProperties.getPostClientCircuitBreakerPermittedCallsInHalfOpen())
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        CircuitBreaker circuitBreaker = registry.circuitBreaker("post-api");
+        circuitBreaker.getEventPublisher().onStateTransition(event -> meterRegistry.counter(
+                "post.api.circuitbreaker.transitions",
+                "from", event.getStateTransition().getFromState().name(),
+                "to", event.getStateTransition().getToState().name()).increment());
+        return circuitBreaker;
+    }
+
+    @Bean
+    public Bulkhead postApiBulkhead() {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(appProperties.getPostClientBulkheadMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ofMillis(appProperties.getPostClientBulkheadMaxWaitMillis()))
+                .build();
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+
+        Bulkhead bulkhead = registry.bulkhead("post-api");
+        bulkhead.getEventPublisher().onCallRejected(event -> meterRegistry.counter(
+                "post.api.bulkhead.rejected").increment());
+        return bulkhead;
+    }
+
+    @Bean
+    public AuthenticationSerializer authenticationSerializer() {
+        boolean compactWrites = !"java".equalsIgnoreCase(appProperties.getTokenStoreSerializer());
+        return new CompactAuthenticationSerializer(new JavaAuthenticationSerializer(), compactWrites);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "my-app.token.mode", havingValue = "opaque", matchIfMissing = true)
+    public RevocableTokenStore tokenStore() {
+        return new CachingTokenStore(
+                new SerializingJdbcTokenStore(dataSource, authenticationSerializer()),
+                appProperties.getTokenCacheMaximumSize(),
+                Duration.ofSeconds(appProperties.getTokenCacheTtlSeconds()),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "my-app.token.mode", havingValue = "jwt")
+    public JwtAccessTokenConverter jwtAccessTokenConverter() {
+        DefaultAccessTokenConverter accessTokenConverter = new DefaultAccessTokenConverter();
+        accessTokenConverter.setUserTokenConverter(new AccountUserAuthenticationConverter());
+
+        JwtAccessTokenConverter jwtAccessTokenConverter = new JwtAccessTokenConverter();
+        jwtAccessTokenConverter.setSigningKey(appProperties.getTokenSigningKey());
+        jwtAccessTokenConverter.setAccessTokenConverter(accessTokenConverter);
+        return jwtAccessTokenConverter;
     }
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplateBuilder().build();
+    @ConditionalOnProperty(name = "my-app.token.mode", havingValue = "jwt")
+    public RevocableTokenStore jwtTokenStore(JwtAccessTokenConverter jwtAccessTokenConverter) {
+        JdbcTokenDenylist denylist = new JdbcTokenDenylist(
+                new JdbcTemplate(dataSource),
+                appProperties.getTokenDenylistMaximumSize(),
+                Duration.ofSeconds(appProperties.getTokenDenylistLookupTtlSeconds()),
+                Duration.ofSeconds(appProperties.getTokenRevocationRetentionSeconds())
+        );
+        return new DenylistJwtTokenStore(jwtAccessTokenConverter, denylist);
     }
 
     @Bean
-    public TokenStore tokenStore() {
-        return new JdbcTokenStore(dataSource);
+    public CachingClientDetailsService cachingClientDetailsService() {
+        JdbcClientDetailsService jdbcClientDetailsService = new JdbcClientDetailsService(dataSource);
+        jdbcClientDetailsService.setPasswordEncoder(passwordEncoder());
+        return new CachingClientDetailsService(
+                jdbcClientDetailsService,
+                appProperties.getClientCacheMaximumSize(),
+                Duration.ofSeconds(appProperties.getClientCacheTtlSeconds()),
+                meterRegistry
+        );
     }
 
     @Bean
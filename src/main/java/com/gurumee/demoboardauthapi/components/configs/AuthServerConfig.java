@@ -2,7 +2,12 @@ package com.gurumee.demoboardauthapi.components.configs;
 
 import com.gurumee.demoboardauthapi.services.AccountService;
 import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.components.clients.CachingClientDetailsService;
+import com.gurumee.demoboardauthapi.components.passwords.PasswordEncoderBusyExceptionTranslator;
+import com.gurumee.demoboardauthapi.components.passwords.VerifiedSecretCachingPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -13,34 +18,40 @@ import org.springframework.security.oauth2.config.annotation.web.configurers.Aut
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerSecurityConfigurer;
 import org.springframework.security.oauth2.provider.approval.ApprovalStore;
 import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import java.time.Duration;
 
 @Configuration
 @EnableAuthorizationServer
 @RequiredArgsConstructor
 public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
     private final PasswordEncoder passwordEncoder;
+    private final AppProperties appProperties;
+    private final MeterRegistry meterRegistry;
     private final AuthenticationManager authenticationManager;
     private final AccountService accountService;
-    private final AppProperties appProperties;
+    private final CachingClientDetailsService clientDetailsService;
     private final ApprovalStore approvalStore;
     private final TokenStore tokenStore;
+    private final ObjectProvider<JwtAccessTokenConverter> jwtAccessTokenConverter;
 
     @Override
     public void configure(AuthorizationServerSecurityConfigurer security) throws Exception {
         security.tokenKeyAccess("permitAll()")
                 .checkTokenAccess("isAuthenticated()")
-                .allowFormAuthenticationForClients();
+                .allowFormAuthenticationForClients()
+                .passwordEncoder(new VerifiedSecretCachingPasswordEncoder(
+                        passwordEncoder,
+                        appProperties.getClientSecretCacheMaximumSize(),
+                        Duration.ofSeconds(appProperties.getClientSecretCacheTtlSeconds()),
+                        meterRegistry
+                ));
     }
 
     @Override
     public void configure(ClientDetailsServiceConfigurer clients) throws Exception {
-        clients.inMemory()
-                .withClient(appProperties.getClientId())
-                .secret(passwordEncoder.encode(appProperties.getClientSecret()))
-                .authorizedGrantTypes("password")
-                .scopes("read", "write")
-                .accessTokenValiditySeconds(30000)
-        ;
+        clients.withClientDetails(clientDetailsService);
     }
 
     @Override
@@ -49,6 +60,8 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
                 .userDetailsService(accountService)
                 .tokenStore(tokenStore)
                 .approvalStore(approvalStore)
+                .exceptionTranslator(new PasswordEncoderBusyExceptionTranslator())
         ;
+        jwtAccessTokenConverter.ifAvailable(endpoints::accessTokenConverter);
     }
 }
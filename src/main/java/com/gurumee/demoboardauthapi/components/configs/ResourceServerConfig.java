@@ -1,27 +1,43 @@
 package com.gurumee.demoboardauthapi.components.configs;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.oauth2.config.annotation.web.configuration.EnableResourceServer;
 import org.springframework.security.oauth2.config.annotation.web.configuration.ResourceServerConfigurerAdapter;
 import org.springframework.security.oauth2.config.annotation.web.configurers.ResourceServerSecurityConfigurer;
 import org.springframework.security.oauth2.provider.error.OAuth2AccessDeniedHandler;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
 
 @Configuration
 @EnableResourceServer
+@RequiredArgsConstructor
 public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
+    private final TokenStore tokenStore;
+    private final ObjectProvider<JwtAccessTokenConverter> jwtAccessTokenConverter;
+
     @Override
     public void configure(ResourceServerSecurityConfigurer resources) throws Exception {
         super.configure(resources);
+
+        if (jwtAccessTokenConverter.getIfAvailable() != null) {
+            resources.tokenStore(tokenStore);
+        }
     }
 
     @Override
     public void configure(HttpSecurity http) throws Exception {
         http
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                    .and()
                 .anonymous()
                     .and()
                 .authorizeRequests()
+                    .mvcMatchers("/api/admin/**").access("#oauth2.hasScope('write') and hasRole('ADMIN')")
                     .antMatchers(HttpMethod.GET).permitAll()
                     .mvcMatchers(HttpMethod.GET, "/api/**").permitAll()
                     .mvcMatchers(HttpMethod.POST, "/api/accounts").permitAll()
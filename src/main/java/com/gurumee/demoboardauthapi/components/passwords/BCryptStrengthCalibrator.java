@@ -0,0 +1,42 @@
+package com.gurumee.demoboardauthapi.components.passwords;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the BCrypt cost for the current machine.
+ * One hash is timed at the minimum cost, and since every extra round doubles the work,
+ * the highest cost whose estimate still fits the target is chosen.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+    private static final String SAMPLE = "calibration-sample";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        if (minStrength >= maxStrength) {
+            return minStrength;
+        }
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode(SAMPLE);
+
+        long started = System.nanoTime();
+        encoder.encode(SAMPLE);
+        long elapsedNanos = Math.max(1, System.nanoTime() - started);
+
+        int strength = minStrength;
+
+        while (strength < maxStrength && elapsedNanos * 2 <= target.toNanos()) {
+            strength++;
+            elapsedNanos *= 2;
+        }
+
+        log.info("bcrypt strength {} chosen, about {} ms per hash", strength, Duration.ofNanos(elapsedNanos).toMillis());
+        return strength;
+    }
+}
@@ -0,0 +1,23 @@
+package com.gurumee.demoboardauthapi.components.passwords;
+
+import lombok.Getter;
+
+@Getter
+public class PasswordEncoderBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public PasswordEncoderBusyException(long retryAfterSeconds) {
+        super("Too many password requests, retry later.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public static PasswordEncoderBusyException find(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof PasswordEncoderBusyException) {
+                return (PasswordEncoderBusyException) t;
+            }
+        }
+
+        return null;
+    }
+}
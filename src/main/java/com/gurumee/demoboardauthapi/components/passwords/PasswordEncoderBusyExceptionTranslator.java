@@ -0,0 +1,24 @@
+package com.gurumee.demoboardauthapi.components.passwords;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
+import org.springframework.security.oauth2.provider.error.DefaultWebResponseExceptionTranslator;
+
+public class PasswordEncoderBusyExceptionTranslator extends DefaultWebResponseExceptionTranslator {
+    @Override
+    public ResponseEntity<OAuth2Exception> translate(Exception e) throws Exception {
+        PasswordEncoderBusyException busy = PasswordEncoderBusyException.find(e);
+
+        if (busy == null) {
+            return super.translate(e);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CACHE_CONTROL, "no-store");
+        headers.set(HttpHeaders.PRAGMA, "no-cache");
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(busy.getRetryAfterSeconds()));
+        return new ResponseEntity<>(new TemporarilyUnavailableException(busy.getMessage()), headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
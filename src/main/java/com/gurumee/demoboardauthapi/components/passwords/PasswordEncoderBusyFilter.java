@@ -0,0 +1,48 @@
+package com.gurumee.demoboardauthapi.components.passwords;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gurumee.demoboardauthapi.models.dtos.ErrorResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class PasswordEncoderBusyFilter extends OncePerRequestFilter {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } catch (ServletException | RuntimeException e) {
+            PasswordEncoderBusyException busy = PasswordEncoderBusyException.find(e);
+
+            if (busy == null || response.isCommitted()) {
+                throw e;
+            }
+
+            response.resetBuffer();
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(busy.getRetryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+            ErrorResponseDto errResponseDto = ErrorResponseDto.builder()
+                    .message(busy.getMessage())
+                    .build();
+            objectMapper.writeValue(response.getOutputStream(), errResponseDto);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.gurumee.demoboardauthapi.components.passwords;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
+
+public class TemporarilyUnavailableException extends OAuth2Exception {
+    public TemporarilyUnavailableException(String msg) {
+        super(msg);
+    }
+
+    @Override
+    public String getOAuth2ErrorCode() {
+        return "temporarily_unavailable";
+    }
+
+    @Override
+    public int getHttpErrorCode() {
+        return HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+}
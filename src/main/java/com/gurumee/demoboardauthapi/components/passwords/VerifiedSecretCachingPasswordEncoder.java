@@ -0,0 +1,89 @@
+package com.gurumee.demoboardauthapi.components.passwords;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Remembers raw/encoded pairs that recently matched, so a client sending the same secret again
+ * skips the expensive hash.
+ * Only an HMAC of the pair is kept, under a key that is generated per process and never leaves memory.
+ * The encoded value is part of the HMAC, so changing a secret invalidates its entries.
+ */
+public class VerifiedSecretCachingPasswordEncoder implements PasswordEncoder {
+    public static final String CACHE_NAME = "verified-client-secrets";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final PasswordEncoder delegate;
+    private final SecretKeySpec key;
+    private final Cache<String, Boolean> verified;
+
+    public VerifiedSecretCachingPasswordEncoder(PasswordEncoder delegate, long maximumSize, Duration ttl,
+                                                MeterRegistry meterRegistry) {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+
+        this.delegate = delegate;
+        this.key = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, CACHE_NAME);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+
+        String digest = digest(rawPassword, encodedPassword);
+
+        if (verified.getIfPresent(digest) != null) {
+            return true;
+        }
+
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+
+        if (matches) {
+            verified.put(digest, Boolean.TRUE);
+        }
+
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private String digest(CharSequence rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
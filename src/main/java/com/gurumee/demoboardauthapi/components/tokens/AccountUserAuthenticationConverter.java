@@ -0,0 +1,99 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import com.gurumee.demoboardauthapi.components.AccountAdapter;
+import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
+import com.gurumee.demoboardauthapi.models.entities.accounts.AccountRole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.provider.token.DefaultUserAuthenticationConverter;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Puts the account fields the API needs into self-contained tokens and rebuilds
+ * an {@link AccountAdapter} from them, so validating a token never reads the database.
+ */
+public class AccountUserAuthenticationConverter extends DefaultUserAuthenticationConverter {
+    public static final String ACCOUNT_ID = "account_id";
+    public static final String CREATED_AT = "created_at";
+    public static final String UPDATED_AT = "updated_at";
+    public static final String ISSUED_AT = "issued_at";
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    @Override
+    public Map<String, ?> convertUserAuthentication(Authentication authentication) {
+        Map<String, Object> response = new LinkedHashMap<>(super.convertUserAuthentication(authentication));
+
+        if (authentication.getPrincipal() instanceof AccountAdapter) {
+            Account account = ((AccountAdapter) authentication.getPrincipal()).getAccount();
+            response.put(ACCOUNT_ID, account.getId());
+            response.put(ISSUED_AT, System.currentTimeMillis());
+
+            if (account.getCreatedAt() != null) {
+                response.put(CREATED_AT, account.getCreatedAt().toString());
+            }
+
+            if (account.getUpdatedAt() != null) {
+                response.put(UPDATED_AT, account.getUpdatedAt().toString());
+            }
+        }
+
+        return response;
+    }
+
+    @Override
+    public Authentication extractAuthentication(Map<String, ?> map) {
+        if (!map.containsKey(USERNAME) || !map.containsKey(ACCOUNT_ID)) {
+            return super.extractAuthentication(map);
+        }
+
+        Collection<? extends GrantedAuthority> authorities = authorities(map.get(AUTHORITIES));
+        Account account = Account.builder()
+                .id(((Number) map.get(ACCOUNT_ID)).longValue())
+                .username((String) map.get(USERNAME))
+                .roles(roles(authorities))
+                .build();
+        account.setCreatedAt(dateTime(map.get(CREATED_AT)));
+        account.setUpdatedAt(dateTime(map.get(UPDATED_AT)));
+
+        return new UsernamePasswordAuthenticationToken(new AccountAdapter(account), "N/A", authorities);
+    }
+
+    private Collection<? extends GrantedAuthority> authorities(Object authorities) {
+        if (authorities instanceof String) {
+            return AuthorityUtils.commaSeparatedStringToAuthorityList((String) authorities);
+        }
+
+        if (authorities instanceof Collection) {
+            return AuthorityUtils.commaSeparatedStringToAuthorityList(
+                    StringUtils.collectionToCommaDelimitedString((Collection<?>) authorities));
+        }
+
+        return Collections.emptyList();
+    }
+
+    private Set<AccountRole> roles(Collection<? extends GrantedAuthority> authorities) {
+        Set<AccountRole> roles = EnumSet.noneOf(AccountRole.class);
+
+        for (GrantedAuthority authority : authorities) {
+            String name = authority.getAuthority();
+
+            if (name.startsWith(ROLE_PREFIX)) {
+                Arrays.stream(AccountRole.values())
+                        .filter(role -> role.name().equals(name.substring(ROLE_PREFIX.length())))
+                        .forEach(roles::add);
+            }
+        }
+
+        return roles;
+    }
+
+    private LocalDateTime dateTime(Object value) {
+        return value == null ? null : LocalDateTime.parse(value.toString());
+    }
+}
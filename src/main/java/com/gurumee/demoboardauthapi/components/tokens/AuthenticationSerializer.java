@@ -0,0 +1,8 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+
+public interface AuthenticationSerializer {
+    byte[] serialize(OAuth2Authentication authentication);
+    OAuth2Authentication deserialize(byte[] bytes);
+}
@@ -0,0 +1,212 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Read-through cache in front of another {@link TokenStore}.
+ * Decoded access tokens and their authentications are kept together, keyed by token value,
+ * until the configured ttl or the token expiration, whichever comes first.
+ * Revoking a user also remembers when it happened, so an entry that was loaded
+ * concurrently with the revocation is dropped instead of served.
+ */
+public class CachingTokenStore implements RevocableTokenStore {
+    public static final String CACHE_NAME = "oauth-token-store";
+
+    private final RevocableTokenStore delegate;
+    private final Cache<String, CachedToken> cache;
+    private final Cache<String, Long> revocations;
+
+    public CachingTokenStore(RevocableTokenStore delegate, long maximumSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(ttl.toNanos()))
+                .recordStats()
+                .build();
+        this.revocations = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl.multipliedBy(2))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(OAuth2AccessToken token) {
+        return readAuthentication(token.getValue());
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(String token) {
+        CachedToken cached = load(token);
+        return cached == null ? delegate.readAuthentication(token) : cached.getAuthentication();
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String tokenValue) {
+        CachedToken cached = load(tokenValue);
+        return cached == null ? null : cached.getAccessToken();
+    }
+
+    @Override
+    public void storeAccessToken(OAuth2AccessToken token, OAuth2Authentication authentication) {
+        cache.invalidate(token.getValue());
+        delegate.storeAccessToken(token, authentication);
+    }
+
+    @Override
+    public void removeAccessToken(OAuth2AccessToken token) {
+        delegate.removeAccessToken(token);
+        cache.invalidate(token.getValue());
+    }
+
+    @Override
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        delegate.storeRefreshToken(refreshToken, authentication);
+    }
+
+    @Override
+    public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+        return delegate.readRefreshToken(tokenValue);
+    }
+
+    @Override
+    public OAuth2Authentication readAuthenticationForRefreshToken(OAuth2RefreshToken token) {
+        return delegate.readAuthenticationForRefreshToken(token);
+    }
+
+    @Override
+    public void removeRefreshToken(OAuth2RefreshToken token) {
+        delegate.removeRefreshToken(token);
+    }
+
+    @Override
+    public void removeAccessTokenUsingRefreshToken(OAuth2RefreshToken refreshToken) {
+        delegate.removeAccessTokenUsingRefreshToken(refreshToken);
+        cache.asMap().values().removeIf(cached -> {
+            OAuth2RefreshToken cachedRefreshToken = cached.getAccessToken().getRefreshToken();
+            return cachedRefreshToken != null && cachedRefreshToken.getValue().equals(refreshToken.getValue());
+        });
+    }
+
+    @Override
+    public int removeTokensByUsername(String username) {
+        int removed = delegate.removeTokensByUsername(username);
+        markRevoked(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    markRevoked(username);
+                }
+            });
+        }
+
+        return removed;
+    }
+
+    @Override
+    public OAuth2AccessToken getAccessToken(OAuth2Authentication authentication) {
+        return delegate.getAccessToken(authentication);
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientIdAndUserName(String clientId, String userName) {
+        return delegate.findTokensByClientIdAndUserName(clientId, userName);
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientId(String clientId) {
+        return delegate.findTokensByClientId(clientId);
+    }
+
+    private CachedToken load(String tokenValue) {
+        CachedToken cached = cache.get(tokenValue, this::read);
+
+        if (cached != null && isRevoked(cached)) {
+            cache.asMap().remove(tokenValue, cached);
+            cached = cache.get(tokenValue, this::read);
+        }
+
+        return cached;
+    }
+
+    private CachedToken read(String tokenValue) {
+        long loadedAt = System.nanoTime();
+        OAuth2AccessToken accessToken = delegate.readAccessToken(tokenValue);
+
+        if (accessToken == null) {
+            return null;
+        }
+
+        OAuth2Authentication authentication = delegate.readAuthentication(tokenValue);
+
+        if (authentication == null) {
+            return null;
+        }
+
+        return new CachedToken(accessToken, authentication, loadedAt);
+    }
+
+    private void markRevoked(String username) {
+        revocations.put(username, System.nanoTime());
+        cache.asMap().values().removeIf(this::isRevoked);
+    }
+
+    private boolean isRevoked(CachedToken cached) {
+        String username = cached.getAuthentication().getName();
+        Long revokedAt = username == null ? null : revocations.getIfPresent(username);
+        return revokedAt != null && revokedAt - cached.getLoadedAt() >= 0;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedToken {
+        private final OAuth2AccessToken accessToken;
+        private final OAuth2Authentication authentication;
+        private final long loadedAt;
+    }
+
+    @AllArgsConstructor
+    private static class TokenExpiry implements Expiry<String, CachedToken> {
+        private final long ttlNanos;
+
+        @Override
+        public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+            Date expiration = value.getAccessToken().getExpiration();
+
+            if (expiration == null) {
+                return ttlNanos;
+            }
+
+            long remainingNanos = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(ttlNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
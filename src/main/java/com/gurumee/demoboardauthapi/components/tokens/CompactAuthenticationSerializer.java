@@ -0,0 +1,343 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import com.gurumee.demoboardauthapi.components.AccountAdapter;
+import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
+import com.gurumee.demoboardauthapi.models.entities.accounts.AccountRole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+
+import java.io.*;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Versioned binary encoding of the authentications this server issues.
+ *
+ * v2 layout: magic, version, OAuth2Request fields, then an optional user authentication
+ * carrying the {@link Account} behind {@link AccountAdapter}, without its password hash.
+ * v1 rows also carried the hash; it is skipped when they are read.
+ * Anything the layout can not express, including strings or collections too long for their length prefix,
+ * is written with the fallback serializer, and rows that do not start with the magic byte
+ * (plain Java serialization) are read with it too.
+ */
+public class CompactAuthenticationSerializer implements AuthenticationSerializer {
+    public static final byte MAGIC = 0x43;
+    public static final byte VERSION = 2;
+
+    private static final byte VERSION_WITH_PASSWORD = 1;
+    private static final int MAX_LENGTH = 0xFFFF;
+
+    private final AuthenticationSerializer fallback;
+    private final boolean compactWrites;
+
+    public CompactAuthenticationSerializer(AuthenticationSerializer fallback, boolean compactWrites) {
+        this.fallback = fallback;
+        this.compactWrites = compactWrites;
+    }
+
+    public static boolean isCompact(byte[] bytes) {
+        return bytes != null && bytes.length > 1 && bytes[0] == MAGIC;
+    }
+
+    @Override
+    public byte[] serialize(OAuth2Authentication authentication) {
+        if (!compactWrites || !supports(authentication)) {
+            return fallback.serialize(authentication);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(MAGIC);
+            out.writeByte(VERSION);
+            writeRequest(out, authentication.getOAuth2Request());
+
+            UsernamePasswordAuthenticationToken userAuthentication =
+                    (UsernamePasswordAuthenticationToken) authentication.getUserAuthentication();
+            out.writeBoolean(userAuthentication != null);
+
+            if (userAuthentication != null) {
+                writeUserAuthentication(out, userAuthentication);
+            }
+        } catch (TooLongException e) {
+            return fallback.serialize(authentication);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not serialize authentication", e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public OAuth2Authentication deserialize(byte[] bytes) {
+        if (!isCompact(bytes)) {
+            return fallback.deserialize(bytes);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            in.readByte();
+            byte version = in.readByte();
+
+            if (version != VERSION && version != VERSION_WITH_PASSWORD) {
+                throw new IllegalArgumentException("Unsupported authentication format version: " + version);
+            }
+
+            OAuth2Request request = readRequest(in);
+            Authentication userAuthentication = in.readBoolean() ? readUserAuthentication(in, version) : null;
+            return new OAuth2Authentication(request, userAuthentication);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not deserialize authentication", e);
+        }
+    }
+
+    private boolean supports(OAuth2Authentication authentication) {
+        OAuth2Request request = authentication.getOAuth2Request();
+
+        if (authentication.getDetails() != null || request.isRefresh() || !request.getExtensions().isEmpty()) {
+            return false;
+        }
+
+        Authentication userAuthentication = authentication.getUserAuthentication();
+
+        if (userAuthentication == null) {
+            return true;
+        }
+
+        return userAuthentication.getClass() == UsernamePasswordAuthenticationToken.class
+                && userAuthentication.getPrincipal() instanceof AccountAdapter
+                && userAuthentication.getCredentials() == null
+                && isStringMap(userAuthentication.getDetails());
+    }
+
+    private boolean isStringMap(Object details) {
+        if (details == null) {
+            return true;
+        }
+
+        if (!(details instanceof Map)) {
+            return false;
+        }
+
+        return ((Map<?, ?>) details).entrySet().stream()
+                .allMatch(e -> e.getKey() instanceof String && (e.getValue() == null || e.getValue() instanceof String));
+    }
+
+    private void writeRequest(DataOutputStream out, OAuth2Request request) throws IOException {
+        writeString(out, request.getClientId());
+        writeStringMap(out, request.getRequestParameters());
+        writeAuthorities(out, request.getAuthorities());
+        out.writeBoolean(request.isApproved());
+        writeStrings(out, request.getScope());
+        writeStrings(out, request.getResourceIds());
+        writeString(out, request.getRedirectUri());
+        writeStrings(out, request.getResponseTypes());
+    }
+
+    private OAuth2Request readRequest(DataInputStream in) throws IOException {
+        String clientId = readString(in);
+        Map<String, String> requestParameters = readStringMap(in);
+        Collection<GrantedAuthority> authorities = readAuthorities(in);
+        boolean approved = in.readBoolean();
+        Set<String> scope = readStrings(in);
+        Set<String> resourceIds = readStrings(in);
+        String redirectUri = readString(in);
+        Set<String> responseTypes = readStrings(in);
+        return new OAuth2Request(requestParameters, clientId, authorities, approved, scope, resourceIds,
+                redirectUri, responseTypes, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeUserAuthentication(DataOutputStream out, UsernamePasswordAuthenticationToken userAuthentication) throws IOException {
+        Account account = ((AccountAdapter) userAuthentication.getPrincipal()).getAccount();
+        out.writeBoolean(account.getId() != null);
+
+        if (account.getId() != null) {
+            out.writeLong(account.getId());
+        }
+
+        writeString(out, account.getUsername());
+        writeStrings(out, roleNames(account.getRoles()));
+        writeDateTime(out, account.getCreatedAt());
+        writeDateTime(out, account.getUpdatedAt());
+
+        writeAuthorities(out, userAuthentication.getAuthorities());
+        writeStringMap(out, (Map<String, String>) userAuthentication.getDetails());
+    }
+
+    private Authentication readUserAuthentication(DataInputStream in, byte version) throws IOException {
+        Long id = in.readBoolean() ? in.readLong() : null;
+        String username = readString(in);
+
+        if (version == VERSION_WITH_PASSWORD) {
+            readString(in);
+        }
+
+        Account account = Account.builder()
+                .id(id)
+                .username(username)
+                .roles(roles(readStrings(in)))
+                .build();
+        account.setCreatedAt(readDateTime(in));
+        account.setUpdatedAt(readDateTime(in));
+
+        AccountAdapter principal = new AccountAdapter(account);
+        principal.eraseCredentials();
+
+        UsernamePasswordAuthenticationToken userAuthentication =
+                new UsernamePasswordAuthenticationToken(principal, null, readAuthorities(in));
+        userAuthentication.setDetails(readStringMap(in));
+        return userAuthentication;
+    }
+
+    private Set<String> roleNames(Set<AccountRole> roles) {
+        Set<String> names = new LinkedHashSet<>();
+
+        if (roles != null) {
+            roles.forEach(role -> names.add(role.name()));
+        }
+
+        return names;
+    }
+
+    private Set<AccountRole> roles(Set<String> names) {
+        Set<AccountRole> roles = EnumSet.noneOf(AccountRole.class);
+        names.forEach(name -> roles.add(AccountRole.valueOf(name)));
+        return roles;
+    }
+
+    private void writeAuthorities(DataOutputStream out, Collection<? extends GrantedAuthority> authorities) throws IOException {
+        writeSize(out, authorities.size());
+
+        for (GrantedAuthority authority : authorities) {
+            writeString(out, authority.getAuthority());
+        }
+    }
+
+    private Collection<GrantedAuthority> readAuthorities(DataInputStream in) throws IOException {
+        int size = in.readUnsignedShort();
+        List<GrantedAuthority> authorities = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            authorities.add(new SimpleGrantedAuthority(readString(in)));
+        }
+
+        return authorities;
+    }
+
+    private void writeStringMap(DataOutputStream out, Map<String, String> map) throws IOException {
+        out.writeBoolean(map != null);
+
+        if (map == null) {
+            return;
+        }
+
+        writeSize(out, map.size());
+
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    private Map<String, String> readStringMap(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+
+        int size = in.readUnsignedShort();
+        Map<String, String> map = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readString(in));
+        }
+
+        return map;
+    }
+
+    private void writeStrings(DataOutputStream out, Collection<String> values) throws IOException {
+        int size = values == null ? 0 : values.size();
+        writeSize(out, size);
+
+        if (values != null) {
+            for (String value : values) {
+                writeString(out, value);
+            }
+        }
+    }
+
+    private Set<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readUnsignedShort();
+        Set<String> values = new LinkedHashSet<>();
+
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+
+        return values;
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+
+        if (value != null) {
+            if (utfLength(value) > MAX_LENGTH) {
+                throw new TooLongException();
+            }
+
+            out.writeUTF(value);
+        }
+    }
+
+    private void writeSize(DataOutputStream out, int size) throws IOException {
+        if (size > MAX_LENGTH) {
+            throw new TooLongException();
+        }
+
+        out.writeShort(size);
+    }
+
+    /**
+     * Length of the value in modified UTF-8, as written by {@link DataOutputStream#writeUTF}.
+     */
+    private static long utfLength(String value) {
+        long length = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            length += c >= 0x0001 && c <= 0x007F ? 1 : c > 0x07FF ? 3 : 2;
+        }
+
+        return length;
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    private static class TooLongException extends IOException {
+    }
+}
@@ -0,0 +1,100 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import org.springframework.security.jwt.JwtHelper;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.common.util.JsonParserFactory;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.AccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.UserAuthenticationConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * {@link JwtTokenStore} that honours revocation through a {@link JdbcTokenDenylist}.
+ * Removing an access or refresh token denies its id until it expires,
+ * and revoking a user denies every token of that user issued up to the revocation.
+ */
+public class DenylistJwtTokenStore extends JwtTokenStore implements RevocableTokenStore {
+    private final JdbcTokenDenylist denylist;
+
+    public DenylistJwtTokenStore(JwtAccessTokenConverter jwtAccessTokenConverter, JdbcTokenDenylist denylist) {
+        super(jwtAccessTokenConverter);
+        this.denylist = denylist;
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String tokenValue) {
+        OAuth2AccessToken token = super.readAccessToken(tokenValue);
+        return token == null || isDenied(token.getAdditionalInformation(), tokenValue) ? null : token;
+    }
+
+    @Override
+    public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+        OAuth2RefreshToken token = super.readRefreshToken(tokenValue);
+        return token == null || isDenied(claims(tokenValue), tokenValue) ? null : token;
+    }
+
+    @Override
+    public int removeTokensByUsername(String username) {
+        denylist.revokeUser(username, System.currentTimeMillis());
+        return 0;
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(String token) {
+        return readAccessToken(token) == null ? null : super.readAuthentication(token);
+    }
+
+    @Override
+    public void removeAccessToken(OAuth2AccessToken token) {
+        super.removeAccessToken(token);
+        denylist.deny(tokenId(token.getAdditionalInformation(), token.getValue()), token.getExpiration());
+    }
+
+    @Override
+    public void removeRefreshToken(OAuth2RefreshToken token) {
+        super.removeRefreshToken(token);
+        Map<String, ?> claims = claims(token.getValue());
+        Object exp = claims.get(AccessTokenConverter.EXP);
+        Date expiration = exp instanceof Number ? new Date(((Number) exp).longValue() * 1000) : null;
+        denylist.deny(tokenId(claims, token.getValue()), expiration);
+    }
+
+    private boolean isDenied(Map<String, ?> claims, String tokenValue) {
+        if (denylist.isDenied(tokenId(claims, tokenValue))) {
+            return true;
+        }
+
+        Object username = claims.get(UserAuthenticationConverter.USERNAME);
+        Long revokedAt = username == null ? null : denylist.revokedAt(username.toString());
+
+        if (revokedAt == null) {
+            return false;
+        }
+
+        Object issuedAt = claims.get(AccountUserAuthenticationConverter.ISSUED_AT);
+        return !(issuedAt instanceof Number) || ((Number) issuedAt).longValue() <= revokedAt;
+    }
+
+    private Map<String, ?> claims(String tokenValue) {
+        try {
+            return JsonParserFactory.create().parseMap(JwtHelper.decode(tokenValue).getClaims());
+        } catch (RuntimeException e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    private String tokenId(Map<String, ?> claims, String tokenValue) {
+        Object jti = claims.get(AccessTokenConverter.JTI);
+        return jti == null
+                ? DigestUtils.md5DigestAsHex(tokenValue.getBytes(StandardCharsets.UTF_8))
+                : jti.toString();
+    }
+}
@@ -0,0 +1,151 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.common.ExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.util.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * Deletes expired tokens and approvals in small batches driven by the expiration indexes.
+ * Each batch is its own statement and batches are spaced out, so the purge never holds locks for long.
+ * Tokens stored before the expiration column existed are backfilled first by decoding the serialized token:
+ * an undecodable row expires now, and a token without an expiration is kept for the revocation retention.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiredTokenPurger {
+    public static final String METRIC_NAME = "oauth.purge.rows";
+    public static final String BACKFILL_METRIC_NAME = "oauth.purge.backfilled";
+
+    private static final Map<String, String> PURGE_SQL = new LinkedHashMap<>();
+
+    static {
+        PURGE_SQL.put("oauth_access_token", "delete from oauth_access_token where expiration < ? limit ?");
+        PURGE_SQL.put("oauth_refresh_token", "delete from oauth_refresh_token where expiration < ? limit ?");
+        PURGE_SQL.put("oauth_approvals", "delete from oauth_approvals where expiresAt < ? limit ?");
+        PURGE_SQL.put("oauth_token_denylist", "delete from oauth_token_denylist where expiration < ? limit ?");
+        PURGE_SQL.put("oauth_revoked_user", "delete from oauth_revoked_user where expiration < ? limit ?");
+    }
+
+    private static final List<String> BACKFILL_TABLES = List.of("oauth_access_token", "oauth_refresh_token");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties appProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${my-app.token-purge.interval-millis:600000}",
+            initialDelayString = "${my-app.token-purge.interval-millis:600000}")
+    public Map<String, Integer> purge() {
+        backfill();
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Map<String, Integer> purged = new LinkedHashMap<>();
+
+        for (Map.Entry<String, String> entry : PURGE_SQL.entrySet()) {
+            int rows = purge(entry.getValue(), now);
+            purged.put(entry.getKey(), rows);
+            meterRegistry.counter(METRIC_NAME, "table", entry.getKey()).increment(rows);
+        }
+
+        log.info("expired token purge finished - {}", purged);
+        return purged;
+    }
+
+    public Map<String, Integer> backfill() {
+        Map<String, Integer> backfilled = new LinkedHashMap<>();
+
+        for (String table : BACKFILL_TABLES) {
+            int rows = 0;
+
+            for (int batch = 0; batch < appProperties.getTokenPurgeMaxBatchesPerRun(); batch++) {
+                int updated = backfillBatch(table);
+                rows += updated;
+
+                if (updated < appProperties.getTokenPurgeBatchSize() || !pause()) {
+                    break;
+                }
+            }
+
+            backfilled.put(table, rows);
+            meterRegistry.counter(BACKFILL_METRIC_NAME, "table", table).increment(rows);
+        }
+
+        log.info("token expiration backfill finished - {}", backfilled);
+        return backfilled;
+    }
+
+    private int backfillBatch(String table) {
+        List<Object[]> updates = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        jdbcTemplate.query("select token_id, token from " + table + " where expiration is null limit ?", rs -> {
+            updates.add(new Object[]{new Timestamp(expiration(rs.getBytes("token"), now)), rs.getString("token_id")});
+        }, appProperties.getTokenPurgeBatchSize());
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("update " + table + " set expiration = ? where token_id = ?", updates);
+        }
+
+        return updates.size();
+    }
+
+    private long expiration(byte[] token, long now) {
+        Object deserialized;
+
+        try {
+            deserialized = token == null ? null : SerializationUtils.deserialize(token);
+        } catch (RuntimeException e) {
+            deserialized = null;
+        }
+
+        Date expiration = null;
+
+        if (deserialized instanceof OAuth2AccessToken) {
+            expiration = ((OAuth2AccessToken) deserialized).getExpiration();
+        } else if (deserialized instanceof ExpiringOAuth2RefreshToken) {
+            expiration = ((ExpiringOAuth2RefreshToken) deserialized).getExpiration();
+        } else if (deserialized == null) {
+            return now;
+        }
+
+        return expiration == null
+                ? now + appProperties.getTokenRevocationRetentionSeconds() * 1000
+                : expiration.getTime();
+    }
+
+    private int purge(String sql, Timestamp now) {
+        int batchSize = appProperties.getTokenPurgeBatchSize();
+        int purged = 0;
+
+        for (int batch = 0; batch < appProperties.getTokenPurgeMaxBatchesPerRun(); batch++) {
+            int deleted = jdbcTemplate.update(sql, now, batchSize);
+            purged += deleted;
+
+            if (deleted < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        return purged;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(appProperties.getTokenPurgeBatchPauseMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import org.springframework.security.oauth2.common.util.SerializationUtils;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+
+public class JavaAuthenticationSerializer implements AuthenticationSerializer {
+    @Override
+    public byte[] serialize(OAuth2Authentication authentication) {
+        return SerializationUtils.serialize(authentication);
+    }
+
+    @Override
+    public OAuth2Authentication deserialize(byte[] bytes) {
+        return SerializationUtils.deserialize(bytes);
+    }
+}
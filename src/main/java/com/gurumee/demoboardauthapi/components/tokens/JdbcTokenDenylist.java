@@ -0,0 +1,126 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Revoked tokens and users kept in the database, so a revocation survives restarts, reaches every instance
+ * and lasts until the tokens it covers have expired. Rows are removed by {@link ExpiredTokenPurger}.
+ * Caffeine only caches lookups: a denied token stays cached until it expires, while "not denied" answers
+ * and user revocation times are cached for {@code lookupTtl}, which bounds how long another instance's
+ * revocation takes to show up here.
+ */
+public class JdbcTokenDenylist {
+    private static final long NONE = 0;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration userRetention;
+    private final LoadingCache<String, Long> deniedTokens;
+    private final LoadingCache<String, Long> revokedUsers;
+
+    public JdbcTokenDenylist(JdbcTemplate jdbcTemplate, long maximumSize, Duration lookupTtl, Duration userRetention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRetention = userRetention;
+        this.deniedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new DeniedTokenExpiry(lookupTtl.toNanos()))
+                .build(this::loadTokenExpiration);
+        this.revokedUsers = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(lookupTtl)
+                .build(this::loadUserRevokedAt);
+    }
+
+    /**
+     * @param expiration when the token expires, or null to keep the denial as long as a user revocation
+     */
+    public void deny(String tokenId, Date expiration) {
+        long expiresAtMillis = expiration == null
+                ? System.currentTimeMillis() + userRetention.toMillis()
+                : expiration.getTime();
+        Timestamp expiresAt = new Timestamp(expiresAtMillis);
+
+        try {
+            jdbcTemplate.update("insert into oauth_token_denylist (jti, expiration) values (?, ?)", tokenId, expiresAt);
+        } catch (DuplicateKeyException e) {
+            // denied already
+        }
+
+        deniedTokens.put(tokenId, Math.max(1, expiresAtMillis));
+    }
+
+    public boolean isDenied(String tokenId) {
+        return deniedTokens.get(tokenId) != NONE;
+    }
+
+    public void revokeUser(String username, long revokedAt) {
+        Timestamp expiresAt = new Timestamp(revokedAt + userRetention.toMillis());
+        String update = "update oauth_revoked_user set revoked_at = ?, expiration = ? where user_name = ? and revoked_at < ?";
+
+        if (jdbcTemplate.update(update, revokedAt, expiresAt, username, revokedAt) == 0) {
+            try {
+                jdbcTemplate.update("insert into oauth_revoked_user (user_name, revoked_at, expiration) values (?, ?, ?)",
+                        username, revokedAt, expiresAt);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(update, revokedAt, expiresAt, username, revokedAt);
+            }
+        }
+
+        revokedUsers.invalidate(username);
+    }
+
+    /**
+     * @return when the user's tokens were last revoked in epoch millis, or null when they never were
+     */
+    public Long revokedAt(String username) {
+        long revokedAt = revokedUsers.get(username);
+        return revokedAt == NONE ? null : revokedAt;
+    }
+
+    private Long loadTokenExpiration(String tokenId) {
+        List<Timestamp> rows = jdbcTemplate.queryForList(
+                "select expiration from oauth_token_denylist where jti = ?", Timestamp.class, tokenId);
+        return rows.isEmpty() ? NONE : Math.max(1, rows.get(0).getTime());
+    }
+
+    private Long loadUserRevokedAt(String username) {
+        List<Long> rows = jdbcTemplate.queryForList(
+                "select revoked_at from oauth_revoked_user where user_name = ?", Long.class, username);
+        return rows.isEmpty() ? NONE : rows.get(0);
+    }
+
+    private static class DeniedTokenExpiry implements Expiry<String, Long> {
+        private final long lookupTtlNanos;
+
+        private DeniedTokenExpiry(long lookupTtlNanos) {
+            this.lookupTtlNanos = lookupTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Long expiration, long currentTime) {
+            if (expiration == NONE) {
+                return lookupTtlNanos;
+            }
+
+            return Math.max(0, Duration.ofMillis(expiration - System.currentTimeMillis()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expiration, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiration, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expiration, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
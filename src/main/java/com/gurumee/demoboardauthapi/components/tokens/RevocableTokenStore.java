@@ -0,0 +1,15 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import org.springframework.security.oauth2.provider.token.TokenStore;
+
+/**
+ * {@link TokenStore} that can revoke every token of a user at once.
+ */
+public interface RevocableTokenStore extends TokenStore {
+    /**
+     * Removes all access and refresh tokens issued to the user.
+     *
+     * @return number of access tokens removed, when the store can tell
+     */
+    int removeTokensByUsername(String username);
+}
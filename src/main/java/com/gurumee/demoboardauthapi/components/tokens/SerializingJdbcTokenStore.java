@@ -0,0 +1,98 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.support.SqlLobValue;
+import org.springframework.security.oauth2.common.ExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.AuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.DefaultAuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.store.JdbcTokenStore;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Date;
+
+public class SerializingJdbcTokenStore extends JdbcTokenStore implements RevocableTokenStore {
+    private static final String DELETE_REFRESH_TOKENS_BY_USERNAME_SQL = "delete from oauth_refresh_token where token_id in "
+            + "(select refresh_token from oauth_access_token where user_name = ?)";
+    private static final String DELETE_ACCESS_TOKENS_BY_USERNAME_SQL = "delete from oauth_access_token where user_name = ?";
+    private static final String INSERT_ACCESS_TOKEN_SQL = "insert into oauth_access_token "
+            + "(token_id, token, authentication_id, user_name, client_id, authentication, refresh_token, expiration) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_REFRESH_TOKEN_SQL = "insert into oauth_refresh_token "
+            + "(token_id, token, authentication, expiration) values (?, ?, ?, ?)";
+    private static final int[] INSERT_ACCESS_TOKEN_TYPES = {
+            Types.VARCHAR, Types.BLOB, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BLOB, Types.VARCHAR, Types.TIMESTAMP
+    };
+    private static final int[] INSERT_REFRESH_TOKEN_TYPES = {Types.VARCHAR, Types.BLOB, Types.BLOB, Types.TIMESTAMP};
+
+    private final AuthenticationSerializer authenticationSerializer;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuthenticationKeyGenerator authenticationKeyGenerator = new DefaultAuthenticationKeyGenerator();
+
+    public SerializingJdbcTokenStore(DataSource dataSource, AuthenticationSerializer authenticationSerializer) {
+        super(dataSource);
+        this.authenticationSerializer = authenticationSerializer;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Same as {@link JdbcTokenStore#storeAccessToken} but writes the expiration column in the insert itself.
+     */
+    @Override
+    public void storeAccessToken(OAuth2AccessToken token, OAuth2Authentication authentication) {
+        String refreshToken = token.getRefreshToken() == null ? null : token.getRefreshToken().getValue();
+
+        if (readAccessToken(token.getValue()) != null) {
+            removeAccessToken(token.getValue());
+        }
+
+        jdbcTemplate.update(INSERT_ACCESS_TOKEN_SQL, new Object[]{
+                extractTokenKey(token.getValue()),
+                new SqlLobValue(serializeAccessToken(token)),
+                authenticationKeyGenerator.extractKey(authentication),
+                authentication.isClientOnly() ? null : authentication.getName(),
+                authentication.getOAuth2Request().getClientId(),
+                new SqlLobValue(serializeAuthentication(authentication)),
+                extractTokenKey(refreshToken),
+                timestamp(token.getExpiration())
+        }, INSERT_ACCESS_TOKEN_TYPES);
+    }
+
+    @Override
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        Date expiration = refreshToken instanceof ExpiringOAuth2RefreshToken
+                ? ((ExpiringOAuth2RefreshToken) refreshToken).getExpiration()
+                : null;
+
+        jdbcTemplate.update(INSERT_REFRESH_TOKEN_SQL, new Object[]{
+                extractTokenKey(refreshToken.getValue()),
+                new SqlLobValue(serializeRefreshToken(refreshToken)),
+                new SqlLobValue(serializeAuthentication(authentication)),
+                timestamp(expiration)
+        }, INSERT_REFRESH_TOKEN_TYPES);
+    }
+
+    @Override
+    public int removeTokensByUsername(String username) {
+        jdbcTemplate.update(DELETE_REFRESH_TOKENS_BY_USERNAME_SQL, username);
+        return jdbcTemplate.update(DELETE_ACCESS_TOKENS_BY_USERNAME_SQL, username);
+    }
+
+    private static Timestamp timestamp(Date date) {
+        return date == null ? null : new Timestamp(date.getTime());
+    }
+
+    @Override
+    protected byte[] serializeAuthentication(OAuth2Authentication authentication) {
+        return authenticationSerializer.serialize(authentication);
+    }
+
+    @Override
+    protected OAuth2Authentication deserializeAuthentication(byte[] authentication) {
+        return authenticationSerializer.deserialize(authentication);
+    }
+}
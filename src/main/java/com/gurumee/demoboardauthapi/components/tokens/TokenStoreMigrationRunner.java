@@ -0,0 +1,80 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Re-encodes authentications that were stored with plain Java serialization.
+ * Rows are walked in key order in batches of {@code my-app.token-store.migration-batch-size},
+ * so it can be enabled on a live database and simply turned off again once it reports zero rows.
+ */
+@Component
+@ConditionalOnProperty(name = "my-app.token-store.migrate-on-startup", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class TokenStoreMigrationRunner implements ApplicationRunner {
+    private final JdbcTemplate jdbcTemplate;
+    private final AuthenticationSerializer authenticationSerializer;
+    private final AppProperties appProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int accessTokens = migrate("oauth_access_token", "authentication_id");
+        int refreshTokens = migrate("oauth_refresh_token", "token_id");
+        log.info("token store migration finished - access tokens: {}, refresh tokens: {}", accessTokens, refreshTokens);
+    }
+
+    private int migrate(String table, String keyColumn) {
+        String selectSql = "select " + keyColumn + ", authentication from " + table
+                + " where " + keyColumn + " > ? order by " + keyColumn + " limit ?";
+        String updateSql = "update " + table + " set authentication = ? where " + keyColumn + " = ?";
+        int batchSize = appProperties.getTokenStoreMigrationBatchSize();
+        String lastKey = "";
+        int migrated = 0;
+
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(selectSql,
+                    (rs, rowNum) -> new Object[]{rs.getString(1), rs.getBytes(2)}, lastKey, batchSize);
+
+            if (rows.isEmpty()) {
+                return migrated;
+            }
+
+            List<Object[]> updates = new ArrayList<>();
+
+            for (Object[] row : rows) {
+                byte[] authentication = (byte[]) row[1];
+
+                if (authentication == null || CompactAuthenticationSerializer.isCompact(authentication)) {
+                    continue;
+                }
+
+                try {
+                    byte[] encoded = authenticationSerializer.serialize(authenticationSerializer.deserialize(authentication));
+
+                    if (CompactAuthenticationSerializer.isCompact(encoded)) {
+                        updates.add(new Object[]{encoded, row[0]});
+                    }
+                } catch (IllegalArgumentException e) {
+                    log.warn("skip {} row {}: {}", table, row[0], e.getMessage());
+                }
+            }
+
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(updateSql, updates);
+                migrated += updates.size();
+            }
+
+            lastKey = (String) rows.get(rows.size() - 1)[0];
+        }
+    }
+}
@@ -6,15 +6,14 @@ import com.gurumee.demoboardauthapi.models.dtos.ErrorResponseDto;
 import com.gurumee.demoboardauthapi.models.dtos.accounts.AccountResponseDto;
 import com.gurumee.demoboardauthapi.models.dtos.accounts.CreateAccountRequestDto;
 import com.gurumee.demoboardauthapi.models.dtos.accounts.UpdateAccountRequestDto;
-import com.gurumee.demoboardauthapi.models.dtos.posts.PostResponseDto;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.UsernameAvailabilityResponseDto;
 import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
-import com.gurumee.demoboardauthapi.repositories.AccountRepository;
-import com.gurumee.demoboardauthapi.repositories.PostRepository;
 import com.gurumee.demoboardauthapi.services.AccountService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.Authorization;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
@@ -22,8 +21,7 @@ import org.springframework.web.bind.annotation.*;
 import springfox.documentation.annotations.ApiIgnore;
 
 import javax.validation.Valid;
-import java.util.List;
-import java.util.Map;
+import java.time.ZoneOffset;
 import java.util.Optional;
 
 
@@ -32,9 +30,7 @@ import java.util.Optional;
 @RequestMapping(value = "/api/accounts")
 @RequiredArgsConstructor
 public class AccountController {
-    private final AccountRepository accountRepository;
     private final AccountService accountService;
-    private final PostRepository postRepository;
 
     @ApiOperation(value = "POST /api/accounts", notes = "create a account")
     @PostMapping
@@ -64,6 +60,16 @@ public class AccountController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
+    @ApiOperation(value = "GET /api/accounts/availability", notes = "check whether a username is free")
+    @GetMapping("/availability")
+    public ResponseEntity getAvailability(@RequestParam String username) {
+        UsernameAvailabilityResponseDto responseDto = UsernameAvailabilityResponseDto.builder()
+                .username(username)
+                .available(accountService.isUsernameAvailable(username))
+                .build();
+        return ResponseEntity.ok(responseDto);
+    }
+
     @ApiOperation(value = "GET /api/accounts/profile", notes = "get profile(need access token)")
     @Authorization(value = "read")
     @GetMapping("/profile")
@@ -82,7 +88,12 @@ public class AccountController {
                 .created_at(account.getCreatedAt())
                 .updated_at(account.getUpdatedAt())
                 .build();
-        return ResponseEntity.ok(accountResponseDto);
+        // an explicit Cache-Control keeps Spring Security from adding no-store, which would defeat the ETag;
+        // If-None-Match is answered with 304 by the ResponseEntity handler
+        return ResponseEntity.ok()
+                .eTag(etag(account))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(accountResponseDto);
     }
 
     @ApiOperation(value = "PUT /api/accounts/profile", notes = "update profile(need access token)")
@@ -126,8 +137,7 @@ public class AccountController {
     @ApiOperation(value = "DELETE /api/accounts/profile", notes = "delete profile(need access token)")
     @Authorization(value = "write")
     @DeleteMapping("/profile")
-    public ResponseEntity deleteAccount(@ApiIgnore @CurrentAccount AccountAdapter currentAccount,
-                                        @ApiIgnore @RequestHeader Map<String, String> headers) {
+    public ResponseEntity deleteAccount(@ApiIgnore @CurrentAccount AccountAdapter currentAccount) {
         if (currentAccount == null) {
             ErrorResponseDto errResponseDto = ErrorResponseDto.builder()
                     .message("You need to access token")
@@ -136,27 +146,30 @@ public class AccountController {
         }
 
         Account account = currentAccount.getAccount();
-        List<PostResponseDto> postList = postRepository.getPostListByUsername(account.getUsername());
-
-        for (PostResponseDto post : postList) {
-            PostResponseDto response = postRepository.deletePost(headers.get("authorization"), post.getId());
+        Optional<Account> deletingOrNull = accountService.requestDeletion(account);
 
-            if (response == null) {
-                ErrorResponseDto errResponseDto = ErrorResponseDto.builder()
-                        .message("POST API와의 통신이 불안정합니다.")
-                        .build();
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errResponseDto);
-            }
+        if (deletingOrNull.isEmpty()) {
+            ErrorResponseDto errResponseDto = ErrorResponseDto.builder()
+                    .message("Account is not found.")
+                    .build();
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errResponseDto);
         }
 
+        Account deleting = deletingOrNull.get();
         AccountResponseDto dto = AccountResponseDto.builder()
-                .id(account.getId())
-                .username(account.getUsername())
-                .role(account.getRoles().toString())
-                .created_at(account.getCreatedAt())
-                .updated_at(account.getUpdatedAt())
+                .id(deleting.getId())
+                .username(deleting.getUsername())
+                .role(deleting.getRoles().toString())
+                .created_at(deleting.getCreatedAt())
+                .updated_at(deleting.getUpdatedAt())
                 .build();
-        accountRepository.delete(account);
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(dto);
+    }
+
+    private String etag(Account account) {
+        long updatedAt = account.getUpdatedAt() == null
+                ? 0
+                : account.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        return "\"" + account.getId() + "-" + updatedAt + "\"";
     }
 }
@@ -0,0 +1,83 @@
+package com.gurumee.demoboardauthapi.controllers;
+
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.models.dtos.ErrorResponseDto;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.AccountImportJobResponseDto;
+import com.gurumee.demoboardauthapi.services.AccountExportService;
+import com.gurumee.demoboardauthapi.services.AccountImportJobService;
+import com.gurumee.demoboardauthapi.services.AccountImportService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.Authorization;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import springfox.documentation.annotations.ApiIgnore;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
+
+@Api(value = "Admin Account API")
+@RestController
+@RequestMapping(value = "/api/admin/accounts")
+@RequiredArgsConstructor
+public class AdminAccountController {
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    private final AccountImportJobService accountImportJobService;
+    private final AccountExportService accountExportService;
+    private final AppProperties appProperties;
+
+    @ApiOperation(value = "POST /api/admin/accounts/import", notes = "start a background import of accounts from NDJSON or CSV(need admin access token)")
+    @Authorization(value = "write")
+    @PostMapping(value = "/import", consumes = {NDJSON_VALUE, CSV_VALUE})
+    public ResponseEntity importAccounts(@ApiIgnore @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                         @ApiIgnore InputStream body) throws IOException {
+        AccountImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))
+                ? AccountImportService.Format.CSV
+                : AccountImportService.Format.NDJSON;
+        AccountImportJobResponseDto responseDto = accountImportJobService.submit(body, format);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(responseDto.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(responseDto);
+    }
+
+    @ApiOperation(value = "GET /api/admin/accounts/import/{id}", notes = "get the status of an import(need admin access token)")
+    @Authorization(value = "write")
+    @GetMapping("/import/{id}")
+    public ResponseEntity getImport(@PathVariable String id) {
+        Optional<AccountImportJobResponseDto> jobOrNull = accountImportJobService.find(id);
+
+        if (jobOrNull.isEmpty()) {
+            ErrorResponseDto errResponseDto = ErrorResponseDto.builder()
+                    .message("Import is not found.")
+                    .build();
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errResponseDto);
+        }
+
+        return ResponseEntity.ok(jobOrNull.get());
+    }
+
+    @ApiOperation(value = "GET /api/admin/accounts/export", notes = "export accounts as NDJSON(need admin access token)")
+    @Authorization(value = "write")
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    public WebAsyncTask<Void> exportAccounts(@ApiIgnore HttpServletResponse response) {
+        // the export may run far longer than an ordinary request, so it carries its own async timeout
+        return new WebAsyncTask<>(appProperties.getAccountExportTimeoutMillis(), () -> {
+            response.setContentType(NDJSON_VALUE);
+            accountExportService.export(response.getOutputStream());
+            return null;
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.gurumee.demoboardauthapi.models.dtos.accounts;
+
+import lombok.*;
+
+@NoArgsConstructor @AllArgsConstructor
+@Getter @Setter @ToString @EqualsAndHashCode
+@Builder
+public class AccountImportBatchDto {
+    private int batch;
+    private int rows;
+    private int imported;
+    private int rejected;
+    private long hash_millis;
+    private long insert_millis;
+    private double rows_per_second;
+}
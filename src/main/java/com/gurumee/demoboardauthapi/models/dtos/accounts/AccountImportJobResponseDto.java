@@ -0,0 +1,28 @@
+package com.gurumee.demoboardauthapi.models.dtos.accounts;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor @AllArgsConstructor
+@Getter @Setter @ToString @EqualsAndHashCode
+@Builder
+public class AccountImportJobResponseDto {
+    private String id;
+    private String status;
+    private long rows;
+    private long imported;
+    private long rejected;
+    private String error;
+    private AccountImportResponseDto report;
+
+    @DateTimeFormat(pattern = "yyyy-mm-dd HH:MM:ss")
+    private LocalDateTime submitted_at;
+
+    @DateTimeFormat(pattern = "yyyy-mm-dd HH:MM:ss")
+    private LocalDateTime started_at;
+
+    @DateTimeFormat(pattern = "yyyy-mm-dd HH:MM:ss")
+    private LocalDateTime finished_at;
+}
@@ -0,0 +1,12 @@
+package com.gurumee.demoboardauthapi.models.dtos.accounts;
+
+import lombok.*;
+
+@NoArgsConstructor @AllArgsConstructor
+@Getter @Setter @ToString @EqualsAndHashCode
+@Builder
+public class AccountImportRejectionDto {
+    private long line;
+    private String username;
+    private String reason;
+}
@@ -0,0 +1,15 @@
+package com.gurumee.demoboardauthapi.models.dtos.accounts;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor @AllArgsConstructor
+@Getter @Setter @ToString @EqualsAndHashCode
+@Builder
+public class AccountImportResponseDto {
+    private long imported;
+    private long rejected;
+    private List<AccountImportBatchDto> batches;
+    private List<AccountImportRejectionDto> rejections;
+}
@@ -0,0 +1,11 @@
+package com.gurumee.demoboardauthapi.models.dtos.accounts;
+
+import lombok.*;
+
+@NoArgsConstructor @AllArgsConstructor
+@Getter @Setter @ToString @EqualsAndHashCode
+@Builder
+public class UsernameAvailabilityResponseDto {
+    private String username;
+    private boolean available;
+}
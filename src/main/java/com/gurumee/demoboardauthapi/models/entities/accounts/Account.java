@@ -2,9 +2,13 @@ package com.gurumee.demoboardauthapi.models.entities.accounts;
 
 import com.gurumee.demoboardauthapi.models.entities.BaseTimeEntity;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
@@ -12,16 +16,26 @@ import java.util.Set;
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class Account extends BaseTimeEntity implements Serializable {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final int USERNAME_MAX_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_id")
+    @GenericGenerator(name = "account_id", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+            @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "account_seq"),
+            @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50"),
+            @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+    })
     private Long id;
 
-    @Column(unique = true, nullable = false)
+    @Column(unique = true, nullable = false, length = USERNAME_MAX_LENGTH)
     private String username;
 
     @Column(nullable = false)
     private String password;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = AccountRolesConverter.class)
+    @Column(name = "role_mask", nullable = false)
     private Set<AccountRole> roles;
+
+    private LocalDateTime deletionRequestedAt;
 }
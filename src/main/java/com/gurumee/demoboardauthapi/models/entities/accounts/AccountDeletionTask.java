@@ -0,0 +1,38 @@
+package com.gurumee.demoboardauthapi.models.entities.accounts;
+
+import com.gurumee.demoboardauthapi.models.entities.BaseTimeEntity;
+import lombok.*;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(indexes = @Index(name = "idx_account_deletion_task_next_attempt_at", columnList = "next_attempt_at"))
+@Getter @Setter @EqualsAndHashCode(of = "id") @ToString
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class AccountDeletionTask extends BaseTimeEntity implements Serializable {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1024)
+    private String lastError;
+
+    private LocalDateTime failedAt;
+
+    @Version
+    private Long version;
+}
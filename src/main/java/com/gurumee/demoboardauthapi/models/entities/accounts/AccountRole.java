@@ -1,5 +1,18 @@
 package com.gurumee.demoboardauthapi.models.entities.accounts;
 
+import lombok.Getter;
+
+/**
+ * Roles are persisted as bits of {@code account.role_mask}, so a bit must never be reused or renumbered.
+ */
+@Getter
 public enum AccountRole {
-    ADMIN, USER
+    ADMIN(1),
+    USER(1 << 1);
+
+    private final int bit;
+
+    AccountRole(int bit) {
+        this.bit = bit;
+    }
 }
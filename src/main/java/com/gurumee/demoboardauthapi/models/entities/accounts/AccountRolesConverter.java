@@ -0,0 +1,38 @@
+package com.gurumee.demoboardauthapi.models.entities.accounts;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Converter
+public class AccountRolesConverter implements AttributeConverter<Set<AccountRole>, Integer> {
+    @Override
+    public Integer convertToDatabaseColumn(Set<AccountRole> roles) {
+        int mask = 0;
+
+        if (roles != null) {
+            for (AccountRole role : roles) {
+                mask |= role.getBit();
+            }
+        }
+
+        return mask;
+    }
+
+    @Override
+    public Set<AccountRole> convertToEntityAttribute(Integer mask) {
+        Set<AccountRole> roles = EnumSet.noneOf(AccountRole.class);
+
+        if (mask != null) {
+            for (AccountRole role : AccountRole.values()) {
+                if ((mask & role.getBit()) != 0) {
+                    roles.add(role);
+                }
+            }
+        }
+
+        return Collections.unmodifiableSet(roles);
+    }
+}
@@ -0,0 +1,19 @@
+package com.gurumee.demoboardauthapi.models.entities.accounts;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Read-only projection of {@link Account}, loaded without putting entities into the persistence context.
+ */
+public interface AccountSummary {
+    Long getId();
+
+    String getUsername();
+
+    Set<AccountRole> getRoles();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
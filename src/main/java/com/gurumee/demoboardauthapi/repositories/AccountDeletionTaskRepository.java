@@ -0,0 +1,14 @@
+package com.gurumee.demoboardauthapi.repositories;
+
+import com.gurumee.demoboardauthapi.models.entities.accounts.AccountDeletionTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AccountDeletionTaskRepository extends JpaRepository<AccountDeletionTask, Long> {
+    List<AccountDeletionTask> findByFailedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now, Pageable pageable);
+}
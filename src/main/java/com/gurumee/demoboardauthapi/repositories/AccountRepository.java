@@ -1,12 +1,34 @@
 package com.gurumee.demoboardauthapi.repositories;
 
 import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
+import com.gurumee.demoboardauthapi.models.entities.accounts.AccountSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByUsername(String username);
+
+    boolean existsByUsername(String username);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select a.username from Account a")
+    Stream<String> streamAllUsernames();
+
+    List<AccountSummary> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("select a.username from Account a where a.username in :usernames")
+    List<String> findUsernamesByUsernameIn(@Param("usernames") Collection<String> usernames);
 }
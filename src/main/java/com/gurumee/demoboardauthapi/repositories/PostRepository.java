@@ -4,9 +4,25 @@ import com.gurumee.demoboardauthapi.models.dtos.posts.PostResponseDto;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Repository
 public interface PostRepository {
     List<PostResponseDto> getPostListByUsername(String username);
+
+    /**
+     * Streams the post ids page by page. The consumer runs after each page's GET has completed,
+     * so it is free to call the post API itself.
+     */
+    void forEachPostIdByUsername(String username, Consumer<Long> consumer);
+
     PostResponseDto deletePost(String token, Long id);
+
+    /**
+     * Deletes the posts with this service's own credential, so it works without the owner's token.
+     * Relies on the post service accepting {@code DELETE /api/posts?ids=1,2,3} with a client_credentials token
+     * of the service client (authority {@code ROLE_SERVICE}, scope {@code my-app.service-client.scope})
+     * and answering 2xx once every listed post is gone, including posts that were already deleted.
+     */
+    boolean deletePosts(List<Long> ids);
 }
@@ -1,49 +1,163 @@
 package com.gurumee.demoboardauthapi.repositories;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.components.clients.ServiceTokenProvider;
 import com.gurumee.demoboardauthapi.models.dtos.posts.PostResponseDto;
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.*;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Repository
-@RequiredArgsConstructor
 @Profile("!test")
 @Slf4j
 public class PostRepositoryImpl implements PostRepository{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .registerModule(new JavaTimeModule()
+                    .addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ofPattern("yyyy-mm-dd HH:MM:ss")))
+                    .addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern("yyyy-mm-dd HH:MM:ss"))));
+    private static final ObjectReader POST_READER = OBJECT_MAPPER.readerFor(PostResponseDto.class);
+
     private final AppProperties appProperties;
     private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final ExecutorService deleteExecutor;
+
+    public PostRepositoryImpl(AppProperties appProperties, RestTemplate restTemplate,
+                              CircuitBreaker postApiCircuitBreaker, Bulkhead postApiBulkhead,
+                              ServiceTokenProvider serviceTokenProvider) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("post-api-delete-");
+        threadFactory.setDaemon(true);
 
+        this.appProperties = appProperties;
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = postApiCircuitBreaker;
+        this.bulkhead = postApiBulkhead;
+        this.serviceTokenProvider = serviceTokenProvider;
+        this.deleteExecutor = Executors.newFixedThreadPool(appProperties.getPostClientDeleteMaxInFlight(), threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deleteExecutor.shutdown();
+    }
 
     public List<PostResponseDto> getPostListByUsername(String username) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        objectMapper.registerModule(new JavaTimeModule()
-                .addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ofPattern("yyyy-mm-dd HH:MM:ss")))
-                .addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern("yyyy-mm-dd HH:MM:ss"))));
-        String requestUrl = appProperties.getResourcePostEndpointUrl() + "/api/posts?username=" + username;
-        ResponseEntity<String> responseEntity = restTemplate.getForEntity(requestUrl, String.class);
+        List<PostResponseDto> dtoList = new ArrayList<>();
+        readPosts(username, parser -> {
+            PostResponseDto dto = POST_READER.readValue(parser);
+            dtoList.add(dto);
+            return dto.getId();
+        }, ids -> {});
+        return dtoList;
+    }
 
-        try {
-            List<PostResponseDto> dtoList = objectMapper.readValue(responseEntity.getBody(), objectMapper.getTypeFactory().constructCollectionType(List.class, PostResponseDto.class));
-            return dtoList;
-        } catch (JsonProcessingException e) {
-            log.error(e.getMessage());
-            throw new RuntimeException("Json Parsing Error - post list");
+    public void forEachPostIdByUsername(String username, Consumer<Long> consumer) {
+        readPosts(username, parser -> {
+            Long id = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                if ("id".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    id = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            return id;
+        }, ids -> ids.forEach(consumer));
+    }
+
+    private void readPosts(String username, PostHandler handler, Consumer<List<Long>> pageConsumer) {
+        int pageSize = appProperties.getPostClientPageSize();
+        Long cursor = null;
+
+        while (true) {
+            Page page = readPage(username, pageSize, cursor, handler);
+            // the GET has returned its connection and bulkhead permit, so the consumer may call the API again
+            pageConsumer.accept(page.ids);
+
+            if (page.size < pageSize || page.lastId == null || page.lastId.equals(cursor)) {
+                return;
+            }
+
+            cursor = page.lastId;
+        }
+    }
+
+    private Page readPage(String username, int pageSize, Long cursor, PostHandler handler) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(appProperties.getResourcePostEndpointUrl() + "/api/posts")
+                .queryParam("username", username)
+                .queryParam(appProperties.getPostClientPageSizeParam(), pageSize);
+
+        if (cursor != null) {
+            builder.queryParam(appProperties.getPostClientCursorParam(), cursor);
         }
+
+        URI requestUri = builder.encode().build().toUri();
+        return call(() -> restTemplate.execute(requestUri, HttpMethod.GET, null, response -> {
+            Page page = new Page();
+
+            try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(response.getBody())) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a post list");
+                }
+
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    Long id = handler.handle(parser);
+                    page.size++;
+
+                    if (id != null) {
+                        page.ids.add(id);
+                        page.lastId = id;
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                log.error(e.getMessage());
+                throw new RuntimeException("Json Parsing Error - post list");
+            }
+
+            return page;
+        }));
     }
 
     public PostResponseDto deletePost(String token, Long id) {
@@ -51,7 +165,8 @@ public class PostRepositoryImpl implements PostRepository{
         reqHeader.add("Authorization", token);
         HttpEntity<String> request = new HttpEntity<>(reqHeader);
         String requestUrl = appProperties.getResourcePostEndpointUrl() + "/api/posts/" + id;
-        ResponseEntity<PostResponseDto> response = restTemplate.exchange(requestUrl, HttpMethod.DELETE, request, PostResponseDto.class);
+        ResponseEntity<PostResponseDto> response = call(() ->
+                restTemplate.exchange(requestUrl, HttpMethod.DELETE, request, PostResponseDto.class));
 
         if (!response.getStatusCode().equals(HttpStatus.OK)) {
             return null;
@@ -59,4 +174,61 @@ public class PostRepositoryImpl implements PostRepository{
 
         return response.getBody();
     }
+
+    public boolean deletePosts(List<Long> ids) {
+        String token;
+
+        try {
+            token = serviceTokenProvider.getAuthorization();
+        } catch (RestClientException | IllegalStateException e) {
+            log.error("service token is not available: {}", e.getMessage());
+            return false;
+        }
+
+        int chunkSize = appProperties.getPostClientDeleteChunkSize();
+        List<CompletableFuture<Boolean>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> deleteChunk(token, chunk), deleteExecutor));
+        }
+
+        return chunks.stream().allMatch(CompletableFuture::join);
+    }
+
+    private boolean deleteChunk(String token, List<Long> ids) {
+        HttpHeaders reqHeader = new HttpHeaders();
+        reqHeader.add("Authorization", token);
+        HttpEntity<String> request = new HttpEntity<>(reqHeader);
+        String requestUrl = appProperties.getResourcePostEndpointUrl() + "/api/posts?ids="
+                + StringUtils.collectionToCommaDelimitedString(ids);
+
+        try {
+            ResponseEntity<Void> response = call(() ->
+                    restTemplate.exchange(requestUrl, HttpMethod.DELETE, request, Void.class));
+            return response.getStatusCode().is2xxSuccessful();
+        } catch (HttpClientErrorException.Unauthorized e) {
+            log.error(e.getMessage());
+            serviceTokenProvider.invalidate();
+            return false;
+        } catch (RestClientException | CallNotPermittedException | BulkheadFullException e) {
+            log.error(e.getMessage());
+            return false;
+        }
+    }
+
+    private <T> T call(Supplier<T> supplier) {
+        return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, supplier)).get();
+    }
+
+    @FunctionalInterface
+    private interface PostHandler {
+        Long handle(JsonParser parser) throws IOException;
+    }
+
+    private static class Page {
+        private final List<Long> ids = new ArrayList<>();
+        private int size;
+        private Long lastId;
+    }
 }
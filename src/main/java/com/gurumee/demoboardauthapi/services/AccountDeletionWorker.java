@@ -0,0 +1,118 @@
+package com.gurumee.demoboardauthapi.services;
+
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.models.entities.accounts.AccountDeletionTask;
+import com.gurumee.demoboardauthapi.repositories.AccountDeletionTaskRepository;
+import com.gurumee.demoboardauthapi.repositories.PostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains the account deletion outbox.
+ * A task is claimed by pushing its next attempt past a lease, so concurrent instances skip it,
+ * and is retried with exponential backoff until the post API accepts the cleanup.
+ * After {@code max-attempts} failures the task is marked failed and left for an operator,
+ * with an error log and the {@value #FAILED_METRIC_NAME} counter to alert on.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountDeletionWorker {
+    public static final String FAILED_METRIC_NAME = "account.deletion.failed";
+
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final AccountDeletionTaskRepository accountDeletionTaskRepository;
+    private final AccountService accountService;
+    private final PostRepository postRepository;
+    private final AppProperties appProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${my-app.account-deletion.poll-delay-millis:5000}",
+            initialDelayString = "${my-app.account-deletion.poll-delay-millis:5000}")
+    public void drain() {
+        List<AccountDeletionTask> tasks = accountDeletionTaskRepository.findByFailedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                LocalDateTime.now(), PageRequest.of(0, appProperties.getAccountDeletionBatchSize()));
+
+        for (AccountDeletionTask task : tasks) {
+            AccountDeletionTask claimed = claim(task);
+
+            if (claimed != null) {
+                process(claimed);
+            }
+        }
+    }
+
+    private AccountDeletionTask claim(AccountDeletionTask task) {
+        task.setNextAttemptAt(LocalDateTime.now().plusSeconds(appProperties.getAccountDeletionLeaseSeconds()));
+
+        try {
+            return accountDeletionTaskRepository.saveAndFlush(task);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return null;
+        }
+    }
+
+    private void process(AccountDeletionTask task) {
+        try {
+            int window = appProperties.getPostClientDeleteChunkSize() * appProperties.getPostClientDeleteMaxInFlight();
+            List<Long> postIds = new ArrayList<>(window);
+
+            postRepository.forEachPostIdByUsername(task.getUsername(), id -> {
+                postIds.add(id);
+
+                if (postIds.size() >= window) {
+                    deletePosts(task, postIds);
+                }
+            });
+            deletePosts(task, postIds);
+
+            accountService.completeDeletion(task);
+        } catch (RuntimeException e) {
+            retry(task, e);
+        }
+    }
+
+    private void deletePosts(AccountDeletionTask task, List<Long> postIds) {
+        if (!postIds.isEmpty() && !postRepository.deletePosts(postIds)) {
+            throw new IllegalStateException("POST API와의 통신이 불안정합니다.");
+        }
+
+        postIds.clear();
+    }
+
+    private void retry(AccountDeletionTask task, RuntimeException cause) {
+        int attempts = task.getAttempts() + 1;
+        long backoffSeconds = Math.min(appProperties.getAccountDeletionRetryMaxSeconds(),
+                appProperties.getAccountDeletionRetryBaseSeconds() << Math.min(attempts - 1, 20));
+        String message = String.valueOf(cause.getMessage());
+
+        task.setAttempts(attempts);
+        task.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds));
+        task.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+
+        if (attempts >= appProperties.getAccountDeletionMaxAttempts()) {
+            task.setFailedAt(LocalDateTime.now());
+            meterRegistry.counter(FAILED_METRIC_NAME).increment();
+            log.error("account deletion for {} gave up after {} attempts: {}", task.getUsername(), attempts, message);
+        } else {
+            log.warn("account deletion for {} failed (attempt {}), retrying in {}s: {}",
+                    task.getUsername(), attempts, backoffSeconds, message);
+        }
+
+        try {
+            accountDeletionTaskRepository.save(task);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("account deletion task {} was claimed elsewhere", task.getId());
+        }
+    }
+}
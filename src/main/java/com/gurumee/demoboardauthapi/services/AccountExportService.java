@@ -0,0 +1,70 @@
+package com.gurumee.demoboardauthapi.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.AccountResponseDto;
+import com.gurumee.demoboardauthapi.models.entities.accounts.AccountSummary;
+import com.gurumee.demoboardauthapi.repositories.AccountRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes every account as one NDJSON line, walking the table by id.
+ * Each page is read in its own short read-only transaction and flushed before the next one is read,
+ * so neither memory use nor the time a connection is held grows with the number of accounts.
+ */
+@Service
+public class AccountExportService {
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter writer;
+    private final int pageSize;
+
+    public AccountExportService(AccountRepository accountRepository, PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper, AppProperties appProperties) {
+        this.accountRepository = accountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.writer = objectMapper.writerFor(AccountResponseDto.class);
+        this.pageSize = appProperties.getAccountExportPageSize();
+    }
+
+    public void export(OutputStream output) throws IOException {
+        long lastId = 0;
+
+        while (true) {
+            long from = lastId;
+            List<AccountSummary> page = transactionTemplate.execute(status ->
+                    accountRepository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.of(0, pageSize)));
+
+            for (AccountSummary account : page) {
+                AccountResponseDto dto = AccountResponseDto.builder()
+                        .id(account.getId())
+                        .username(account.getUsername())
+                        .role(account.getRoles().toString())
+                        .created_at(account.getCreatedAt())
+                        .updated_at(account.getUpdatedAt())
+                        .build();
+                output.write(writer.writeValueAsBytes(dto));
+                output.write(NEW_LINE);
+            }
+
+            output.flush();
+
+            if (page.size() < pageSize) {
+                return;
+            }
+
+            lastId = page.get(page.size() - 1).getId();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.gurumee.demoboardauthapi.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.AccountImportBatchDto;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.AccountImportJobResponseDto;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.AccountImportResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs account imports in the background, one at a time, from a copy of the upload spooled to a temp file.
+ * Jobs are kept in memory while queued or running and for {@code job-retention-seconds} after they finish,
+ * so a job's status can only be read from the instance that accepted the upload.
+ */
+@Service
+@Slf4j
+public class AccountImportJobService implements DisposableBean {
+    private final AccountImportService accountImportService;
+    private final Cache<String, Job> jobs;
+    private final ExecutorService jobExecutor;
+
+    public AccountImportJobService(AccountImportService accountImportService, AppProperties appProperties) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("account-import-job-");
+        threadFactory.setDaemon(true);
+
+        this.accountImportService = accountImportService;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new FinishedJobExpiry(Duration.ofSeconds(appProperties.getAccountImportJobRetentionSeconds())))
+                .build();
+        this.jobExecutor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @Override
+    public void destroy() {
+        jobExecutor.shutdownNow();
+    }
+
+    public AccountImportJobResponseDto submit(InputStream input, AccountImportService.Format format) throws IOException {
+        Path upload = Files.createTempFile("account-import-", ".upload");
+
+        try {
+            Files.copy(input, upload, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(upload);
+            throw e;
+        }
+
+        Job job = new Job(UUID.randomUUID().toString());
+        jobs.put(job.id, job);
+        jobExecutor.execute(() -> run(job, upload, format));
+        return job.toDto();
+    }
+
+    public Optional<AccountImportJobResponseDto> find(String id) {
+        return Optional.ofNullable(jobs.getIfPresent(id)).map(Job::toDto);
+    }
+
+    private void run(Job job, Path upload, AccountImportService.Format format) {
+        job.start();
+
+        try (InputStream input = Files.newInputStream(upload)) {
+            AccountImportResponseDto report = accountImportService.importAccounts(input, format, job::progress);
+            job.complete(report);
+        } catch (IOException | RuntimeException e) {
+            log.error("account import {} failed", job.id, e);
+            job.fail(e);
+        } finally {
+            // re-put so the expiry is recomputed now that the job has finished
+            jobs.put(job.id, job);
+            deleteUpload(upload);
+        }
+    }
+
+    private void deleteUpload(Path upload) {
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException e) {
+            log.warn("could not delete account import upload {}: {}", upload, e.getMessage());
+        }
+    }
+
+    private static class FinishedJobExpiry implements Expiry<String, Job> {
+        private final long retentionNanos;
+
+        private FinishedJobExpiry(Duration retention) {
+            this.retentionNanos = retention.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String id, Job job, long currentTime) {
+            return job.isFinished() ? retentionNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, Job job, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, job, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, Job job, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private static class Job {
+        private final String id;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private Status status = Status.QUEUED;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private long rows;
+        private long imported;
+        private long rejected;
+        private String error;
+        private AccountImportResponseDto report;
+
+        private Job(String id) {
+            this.id = id;
+        }
+
+        private synchronized void start() {
+            status = Status.RUNNING;
+            startedAt = LocalDateTime.now();
+        }
+
+        private synchronized void progress(AccountImportBatchDto batch) {
+            rows += batch.getRows();
+            imported += batch.getImported();
+            rejected += batch.getRejected();
+        }
+
+        private synchronized void complete(AccountImportResponseDto report) {
+            this.report = report;
+            imported = report.getImported();
+            rejected = report.getRejected();
+            status = Status.COMPLETED;
+            finishedAt = LocalDateTime.now();
+        }
+
+        private synchronized void fail(Exception e) {
+            error = String.valueOf(e.getMessage());
+            status = Status.FAILED;
+            finishedAt = LocalDateTime.now();
+        }
+
+        private synchronized boolean isFinished() {
+            return status == Status.COMPLETED || status == Status.FAILED;
+        }
+
+        private synchronized AccountImportJobResponseDto toDto() {
+            return AccountImportJobResponseDto.builder()
+                    .id(id)
+                    .status(status.name())
+                    .rows(rows)
+                    .imported(imported)
+                    .rejected(rejected)
+                    .error(error)
+                    .report(report)
+                    .submitted_at(submittedAt)
+                    .started_at(startedAt)
+                    .finished_at(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.gurumee.demoboardauthapi.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.components.UsernameBloomFilter;
+import com.gurumee.demoboardauthapi.components.UsernameConflictDetector;
+import com.gurumee.demoboardauthapi.components.passwords.BoundedPasswordEncoder;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.AccountImportBatchDto;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.AccountImportRejectionDto;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.AccountImportResponseDto;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.CreateAccountRequestDto;
+import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
+import com.gurumee.demoboardauthapi.models.entities.accounts.AccountRole;
+import com.gurumee.demoboardauthapi.repositories.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports accounts from an NDJSON or CSV stream in batches.
+ * Passwords are hashed on a dedicated bounded pool, so an import does not compete with logins,
+ * and every batch is inserted in its own transaction with JDBC batching.
+ * Rows with a blank field, a username too long for the column, a username repeated in the import, a taken username
+ * or anything else the database refuses are rejected and reported; the rest of the file is still imported.
+ * CSV rows are {@code username,password}, split at the first comma, with an optional header line.
+ */
+@Service
+@Slf4j
+public class AccountImportService implements DisposableBean {
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
+    private static final String CSV_HEADER = "username,password";
+
+    private final AccountRepository accountRepository;
+    private final UsernameBloomFilter usernameFilter;
+    private final UsernameConflictDetector usernameConflictDetector;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader rowReader;
+    private final int batchSize;
+    private final ThreadPoolExecutor hashExecutor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public AccountImportService(AppProperties appProperties, AccountRepository accountRepository,
+                                UsernameBloomFilter usernameFilter, UsernameConflictDetector usernameConflictDetector,
+                                PasswordEncoder passwordEncoder,
+                                PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        int threads = appProperties.getAccountImportHashThreads() > 0
+                ? appProperties.getAccountImportHashThreads()
+                : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("account-import-");
+        threadFactory.setDaemon(true);
+
+        this.accountRepository = accountRepository;
+        this.usernameFilter = usernameFilter;
+        this.usernameConflictDetector = usernameConflictDetector;
+        this.passwordEncoder = passwordEncoder instanceof BoundedPasswordEncoder
+                ? ((BoundedPasswordEncoder) passwordEncoder).getDelegate()
+                : passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rowReader = objectMapper.readerFor(CreateAccountRequestDto.class);
+        this.batchSize = appProperties.getAccountImportBatchSize();
+        this.hashExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public void destroy() {
+        hashExecutor.shutdown();
+    }
+
+    public AccountImportResponseDto importAccounts(InputStream input, Format format) throws IOException {
+        return importAccounts(input, format, batch -> {});
+    }
+
+    /**
+     * Imports the rows and hands each finished batch to {@code progress}.
+     */
+    public AccountImportResponseDto importAccounts(InputStream input, Format format,
+                                                   Consumer<AccountImportBatchDto> progress) throws IOException {
+        Report report = new Report();
+        List<Row> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+
+                if (line.isBlank() || (format == Format.CSV && lineNumber == 1 && CSV_HEADER.equalsIgnoreCase(line.strip()))) {
+                    continue;
+                }
+
+                batch.add(parse(line, lineNumber, format));
+
+                if (batch.size() >= batchSize) {
+                    progress.accept(importBatch(batch, report));
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            progress.accept(importBatch(batch, report));
+        }
+
+        return AccountImportResponseDto.builder()
+                .imported(report.imported)
+                .rejected(report.rejected)
+                .batches(report.batches)
+                .rejections(report.rejections)
+                .build();
+    }
+
+    private Row parse(String line, long lineNumber, Format format) {
+        Row row = new Row();
+        row.line = lineNumber;
+
+        if (format == Format.CSV) {
+            int comma = line.indexOf(',');
+
+            if (comma < 0) {
+                row.reason = "malformed row";
+                return row;
+            }
+
+            row.username = line.substring(0, comma).strip();
+            row.password = line.substring(comma + 1);
+            return row;
+        }
+
+        try {
+            CreateAccountRequestDto dto = rowReader.readValue(line);
+            row.username = dto.getUsername();
+            row.password = dto.getPassword();
+        } catch (JsonProcessingException e) {
+            row.reason = "malformed row";
+        }
+
+        return row;
+    }
+
+    private AccountImportBatchDto importBatch(List<Row> rows, Report report) {
+        long startedAt = System.nanoTime();
+        List<Row> accepted = accept(rows, report);
+
+        hash(accepted);
+        long hashedAt = System.nanoTime();
+
+        int imported = insert(accepted, report);
+        long finishedAt = System.nanoTime();
+
+        double seconds = Math.max(finishedAt - startedAt, 1) / 1_000_000_000.0;
+        AccountImportBatchDto batch = AccountImportBatchDto.builder()
+                .batch(report.batches.size() + 1)
+                .rows(rows.size())
+                .imported(imported)
+                .rejected(rows.size() - imported)
+                .hash_millis(TimeUnit.NANOSECONDS.toMillis(hashedAt - startedAt))
+                .insert_millis(TimeUnit.NANOSECONDS.toMillis(finishedAt - hashedAt))
+                .rows_per_second(Math.round(rows.size() / seconds * 10) / 10.0)
+                .build();
+        report.batches.add(batch);
+        report.imported += imported;
+
+        log.info("account import batch {}: {} rows, {} imported, {} rejected, {} rows/s",
+                batch.getBatch(), batch.getRows(), batch.getImported(), batch.getRejected(), batch.getRows_per_second());
+        return batch;
+    }
+
+    private List<Row> accept(List<Row> rows, Report report) {
+        Map<String, Row> unique = new LinkedHashMap<>();
+
+        for (Row row : rows) {
+            if (row.reason != null) {
+                report.reject(row, row.reason);
+            } else if (!StringUtils.hasText(row.username) || !StringUtils.hasText(row.password)) {
+                report.reject(row, "username and password are required");
+            } else if (row.username.length() > Account.USERNAME_MAX_LENGTH) {
+                report.reject(row, "username is too long");
+            } else if (unique.putIfAbsent(row.username, row) != null) {
+                report.reject(row, "duplicate username in import");
+            }
+        }
+
+        List<String> candidates = unique.keySet().stream()
+                .filter(usernameFilter::mightContain)
+                .collect(Collectors.toList());
+
+        if (!candidates.isEmpty()) {
+            for (String taken : accountRepository.findUsernamesByUsernameIn(candidates)) {
+                Row row = unique.remove(taken);
+
+                if (row != null) {
+                    report.reject(row, "username already exists");
+                }
+            }
+        }
+
+        return new ArrayList<>(unique.values());
+    }
+
+    private void hash(List<Row> rows) {
+        CompletableFuture<?>[] futures = rows.stream()
+                .map(row -> CompletableFuture.runAsync(() -> row.encodedPassword = passwordEncoder.encode(row.password), hashExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private int insert(List<Row> rows, Report report) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(rows));
+            rows.forEach(row -> usernameFilter.add(row.username));
+            return rows.size();
+        } catch (DataIntegrityViolationException e) {
+            log.info("account import batch was rejected by the database, retrying row by row: {}", e.getMostSpecificCause().getMessage());
+        }
+
+        int imported = 0;
+
+        for (Row row : rows) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(List.of(row)));
+                usernameFilter.add(row.username);
+                imported++;
+            } catch (DataIntegrityViolationException e) {
+                // one bad row must not stop the rest of the file, so anything the database refuses is reported per row
+                if (usernameConflictDetector.isConflict(e)) {
+                    report.reject(row, "username already exists");
+                } else {
+                    log.warn("account import line {} was rejected by the database: {}", row.line, e.getMostSpecificCause().getMessage());
+                    report.reject(row, "rejected by the database");
+                }
+            }
+        }
+
+        return imported;
+    }
+
+    private void persist(List<Row> rows) {
+        List<Account> accounts = rows.stream()
+                .map(row -> Account.builder()
+                        .username(row.username)
+                        .password(row.encodedPassword)
+                        .roles(Set.of(AccountRole.USER))
+                        .build())
+                .collect(Collectors.toList());
+
+        accountRepository.saveAll(accounts);
+        accountRepository.flush();
+        entityManager.clear();
+    }
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private static class Row {
+        private long line;
+        private String username;
+        private String password;
+        private String encodedPassword;
+        private String reason;
+    }
+
+    private static class Report {
+        private long imported;
+        private long rejected;
+        private final List<AccountImportBatchDto> batches = new ArrayList<>();
+        private final List<AccountImportRejectionDto> rejections = new ArrayList<>();
+
+        private void reject(Row row, String reason) {
+            rejected++;
+
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(AccountImportRejectionDto.builder()
+                        .line(row.line)
+                        .username(row.username)
+                        .reason(reason)
+                        .build());
+            }
+        }
+    }
+}
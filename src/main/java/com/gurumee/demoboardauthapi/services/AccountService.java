@@ -1,33 +1,49 @@
 package com.gurumee.demoboardauthapi.services;
 
 import com.gurumee.demoboardauthapi.components.AccountAdapter;
+import com.gurumee.demoboardauthapi.components.AccountCache;
+import com.gurumee.demoboardauthapi.components.UsernameBloomFilter;
+import com.gurumee.demoboardauthapi.components.UsernameConflictDetector;
+import com.gurumee.demoboardauthapi.components.tokens.RevocableTokenStore;
 import com.gurumee.demoboardauthapi.models.dtos.accounts.UpdateAccountRequestDto;
 import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
+import com.gurumee.demoboardauthapi.models.entities.accounts.AccountDeletionTask;
 import com.gurumee.demoboardauthapi.models.entities.accounts.AccountRole;
 import com.gurumee.demoboardauthapi.models.dtos.accounts.CreateAccountRequestDto;
+import com.gurumee.demoboardauthapi.repositories.AccountDeletionTaskRepository;
 import com.gurumee.demoboardauthapi.repositories.AccountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
-public class AccountService implements UserDetailsService {
+public class AccountService implements UserDetailsService, UserDetailsPasswordService {
     private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AccountCache accountCache;
+    private final AccountDeletionTaskRepository accountDeletionTaskRepository;
+    private final RevocableTokenStore tokenStore;
+    private final UsernameBloomFilter usernameFilter;
+    private final UsernameConflictDetector usernameConflictDetector;
 
-    @Transactional
+    /**
+     * Inserts straight away and lets the unique key on username decide a conflict,
+     * so concurrent signups for one name have exactly one winner.
+     * A username the filter has seen is checked first, so a taken name costs no password hash.
+     */
     public Optional<Account> saveAccount(CreateAccountRequestDto requestDto) {
-        Optional<Account> account = accountRepository.findByUsername(requestDto.getUsername());
-
-        if (account.isPresent()) {
+        if (!isUsernameAvailable(requestDto.getUsername())) {
             return Optional.empty();
         }
 
@@ -36,17 +52,44 @@ public class AccountService implements UserDetailsService {
                 .password(passwordEncoder.encode(requestDto.getPassword()))
                 .roles(Set.of(AccountRole.USER))
                 .build();
-        Account saved = accountRepository.save(newAccount);
+        Account saved;
+
+        try {
+            saved = accountRepository.saveAndFlush(newAccount);
+        } catch (DataIntegrityViolationException e) {
+            if (!usernameConflictDetector.isConflict(e)) {
+                throw e;
+            }
+
+            return Optional.empty();
+        }
+
+        usernameFilter.add(saved.getUsername());
+        accountCache.evict(saved.getUsername());
         return Optional.of(saved);
     }
 
+    public boolean isUsernameAvailable(String username) {
+        return !usernameFilter.mightContain(username) || !accountRepository.existsByUsername(username);
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Account account = accountRepository.findByUsername(username)
+        Account account = accountCache.get(username, accountRepository::findByUsername)
                 .orElseThrow(() -> new UsernameNotFoundException(username));
         return new AccountAdapter(account);
     }
 
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Account account = accountRepository.findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException(user.getUsername()));
+        account.setPassword(newPassword);
+        accountCache.evict(account.getUsername());
+        return new AccountAdapter(account);
+    }
+
     @Transactional
     public Optional<Account> update(Account account, UpdateAccountRequestDto requestDto) {
         String password = requestDto.getPassword();
@@ -58,6 +101,42 @@ public class AccountService implements UserDetailsService {
 
         account.setPassword(passwordEncoder.encode(password));
         Account updated = accountRepository.save(account);
+        tokenStore.removeTokensByUsername(updated.getUsername());
+        accountCache.evict(updated.getUsername());
         return Optional.of(updated);
     }
+
+    @Transactional
+    public Optional<Account> requestDeletion(Account account) {
+        Optional<Account> found = accountRepository.findById(account.getId());
+
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Account deleting = found.get();
+
+        if (deleting.getDeletionRequestedAt() == null) {
+            LocalDateTime now = LocalDateTime.now();
+            deleting.setDeletionRequestedAt(now);
+            accountDeletionTaskRepository.save(AccountDeletionTask.builder()
+                    .accountId(deleting.getId())
+                    .username(deleting.getUsername())
+                    .nextAttemptAt(now)
+                    .build());
+        }
+
+        tokenStore.removeTokensByUsername(deleting.getUsername());
+        accountCache.evict(deleting.getUsername());
+        return Optional.of(deleting);
+    }
+
+    @Transactional
+    public void completeDeletion(AccountDeletionTask task) {
+        accountRepository.findById(task.getAccountId()).ifPresent(accountRepository::delete);
+        accountDeletionTaskRepository.delete(task);
+        tokenStore.removeTokensByUsername(task.getUsername());
+        usernameFilter.remove(task.getUsername());
+        accountCache.evict(task.getUsername());
+    }
 }
@@ -0,0 +1,2 @@
+-- schema-mysql.sql only creates missing tables, so existing databases need the index added by hand.
+create index idx_oauth_access_token_user_name on oauth_access_token (user_name);
@@ -0,0 +1,8 @@
+-- Rows stored before this revision get their expiration backfilled by the purge job, which decodes the stored token.
+alter table oauth_access_token add column expiration TIMESTAMP NULL;
+create index idx_oauth_access_token_expiration on oauth_access_token (expiration);
+
+alter table oauth_refresh_token add column expiration TIMESTAMP NULL;
+create index idx_oauth_refresh_token_expiration on oauth_refresh_token (expiration);
+
+create index idx_oauth_approvals_expires_at on oauth_approvals (expiresAt);
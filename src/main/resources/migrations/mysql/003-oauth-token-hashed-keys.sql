@@ -0,0 +1,18 @@
+-- JdbcTokenStore keys every token row by the 32 character MD5 hex of the token or authentication,
+-- so the key columns become fixed-width ascii and each lookup it issues gets an index.
+-- Refresh tokens without a key can not be looked up at all and are removed before adding the primary key.
+delete from oauth_refresh_token where token_id is null;
+
+alter table oauth_access_token
+  modify token_id CHAR(32) CHARACTER SET ascii NOT NULL,
+  modify authentication_id CHAR(32) CHARACTER SET ascii NOT NULL,
+  modify refresh_token CHAR(32) CHARACTER SET ascii,
+  drop index idx_oauth_access_token_user_name,
+  add unique index uk_oauth_access_token_token_id (token_id),
+  add index idx_oauth_access_token_refresh_token (refresh_token),
+  add index idx_oauth_access_token_user_name_client_id (user_name, client_id),
+  add index idx_oauth_access_token_client_id (client_id);
+
+alter table oauth_refresh_token
+  modify token_id CHAR(32) CHARACTER SET ascii NOT NULL,
+  add primary key (token_id);
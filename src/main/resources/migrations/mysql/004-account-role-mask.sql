@@ -0,0 +1,11 @@
+-- Expand step of folding the account_roles element collection into account.role_mask (ADMIN = 1, USER = 2, see AccountRole).
+-- Apply before deploying: it only adds and fills the column, so instances still reading account_roles keep working.
+-- account_roles is dropped by 007 once no instance reads it any more.
+alter table account add column role_mask INT NOT NULL DEFAULT 0;
+
+update account a
+set a.role_mask = (
+    select coalesce(sum(case r.roles when 'ADMIN' then 1 when 'USER' then 2 else 0 end), 0)
+    from account_roles r
+    where r.account_id = a.id
+);
@@ -0,0 +1,8 @@
+-- Account ids come from the account_seq table (pooled-lo, 50 ids per round trip) instead of AUTO_INCREMENT,
+-- so Hibernate can batch account inserts. The table must start above every existing id.
+create table if not exists account_seq (next_val BIGINT) engine=InnoDB;
+
+delete from account_seq;
+
+insert into account_seq (next_val)
+select coalesce(max(id), 0) + 1 from account;
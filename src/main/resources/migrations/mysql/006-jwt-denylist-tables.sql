@@ -0,0 +1,13 @@
+-- Revoked JWT ids and user revocations, shared by every instance and purged once the covered tokens expire.
+create table IF NOT EXISTS oauth_token_denylist (
+  jti VARCHAR(64) CHARACTER SET ascii PRIMARY KEY,
+  expiration DATETIME NOT NULL,
+  INDEX idx_oauth_token_denylist_expiration (expiration)
+);
+
+create table IF NOT EXISTS oauth_revoked_user (
+  user_name VARCHAR(256) PRIMARY KEY,
+  revoked_at BIGINT NOT NULL,
+  expiration DATETIME NOT NULL,
+  INDEX idx_oauth_revoked_user_expiration (expiration)
+);
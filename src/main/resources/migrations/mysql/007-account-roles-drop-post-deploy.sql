@@ -0,0 +1,11 @@
+-- Contract step of 004. Apply only after every instance runs the revision that reads account.role_mask.
+-- Accounts signed up on old instances between 004 and the deploy got role_mask 0, so the backfill runs again for them first.
+update account a
+set a.role_mask = (
+    select coalesce(sum(case r.roles when 'ADMIN' then 1 when 'USER' then 2 else 0 end), 0)
+    from account_roles r
+    where r.account_id = a.id
+)
+where a.role_mask = 0;
+
+drop table account_roles;
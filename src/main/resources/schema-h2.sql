@@ -4,6 +4,8 @@ drop table IF EXISTS oauth_access_token;
 drop table IF EXISTS oauth_refresh_token;
 drop table IF EXISTS oauth_code;
 drop table IF EXISTS oauth_approvals;
+drop table IF EXISTS oauth_token_denylist;
+drop table IF EXISTS oauth_revoked_user;
 drop table IF EXISTS ClientDetails;
 
 create table oauth_client_details (
@@ -29,21 +31,31 @@ create table oauth_client_token (
 );
 
 create table oauth_access_token (
-    token_id          VARCHAR(256),
+    token_id          CHAR(32) NOT NULL,
     token             LONGVARBINARY,
-    authentication_id VARCHAR(256) PRIMARY KEY,
+    authentication_id CHAR(32) PRIMARY KEY,
     user_name         VARCHAR(256),
     client_id         VARCHAR(256),
     authentication    LONGVARBINARY,
-    refresh_token     VARCHAR(256)
+    refresh_token     CHAR(32),
+    expiration        TIMESTAMP
 );
 
+create unique index uk_oauth_access_token_token_id on oauth_access_token (token_id);
+create index idx_oauth_access_token_refresh_token on oauth_access_token (refresh_token);
+create index idx_oauth_access_token_user_name_client_id on oauth_access_token (user_name, client_id);
+create index idx_oauth_access_token_client_id on oauth_access_token (client_id);
+create index idx_oauth_access_token_expiration on oauth_access_token (expiration);
+
 create table oauth_refresh_token (
-    token_id       VARCHAR(256),
+    token_id       CHAR(32) PRIMARY KEY,
     token          LONGVARBINARY,
-    authentication LONGVARBINARY
+    authentication LONGVARBINARY,
+    expiration     TIMESTAMP
 );
 
+create index idx_oauth_refresh_token_expiration on oauth_refresh_token (expiration);
+
 create table oauth_code (
     code           VARCHAR(256),
     authentication LONGVARBINARY
@@ -58,6 +70,23 @@ create table oauth_approvals (
     lastModifiedAt TIMESTAMP
 );
 
+create index idx_oauth_approvals_expires_at on oauth_approvals (expiresAt);
+
+create table oauth_token_denylist (
+    jti        VARCHAR(64) PRIMARY KEY,
+    expiration TIMESTAMP NOT NULL
+);
+
+create index idx_oauth_token_denylist_expiration on oauth_token_denylist (expiration);
+
+create table oauth_revoked_user (
+    user_name  VARCHAR(256) PRIMARY KEY,
+    revoked_at BIGINT NOT NULL,
+    expiration TIMESTAMP NOT NULL
+);
+
+create index idx_oauth_revoked_user_expiration on oauth_revoked_user (expiration);
+
 
 -- customized oauth_client_details table
 create table ClientDetails (
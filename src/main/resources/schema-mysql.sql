@@ -20,20 +20,29 @@ create table IF NOT EXISTS oauth_client_token (
   client_id VARCHAR(256)
 );
 
+-- token_id, authentication_id and refresh_token hold the MD5 hex keys JdbcTokenStore derives
 create table IF NOT EXISTS oauth_access_token (
-  token_id VARCHAR(256),
+  token_id CHAR(32) CHARACTER SET ascii NOT NULL,
   token LONG VARBINARY,
-  authentication_id VARCHAR(256) PRIMARY KEY,
+  authentication_id CHAR(32) CHARACTER SET ascii PRIMARY KEY,
   user_name VARCHAR(256),
   client_id VARCHAR(256),
   authentication LONG VARBINARY,
-  refresh_token VARCHAR(256)
+  refresh_token CHAR(32) CHARACTER SET ascii,
+  expiration TIMESTAMP NULL,
+  UNIQUE INDEX uk_oauth_access_token_token_id (token_id),
+  INDEX idx_oauth_access_token_refresh_token (refresh_token),
+  INDEX idx_oauth_access_token_user_name_client_id (user_name, client_id),
+  INDEX idx_oauth_access_token_client_id (client_id),
+  INDEX idx_oauth_access_token_expiration (expiration)
 );
 
 create table IF NOT EXISTS oauth_refresh_token (
-  token_id VARCHAR(256),
+  token_id CHAR(32) CHARACTER SET ascii PRIMARY KEY,
   token LONG VARBINARY,
-  authentication LONG VARBINARY
+  authentication LONG VARBINARY,
+  expiration TIMESTAMP NULL,
+  INDEX idx_oauth_refresh_token_expiration (expiration)
 );
 
 create table IF NOT EXISTS oauth_code (
@@ -46,7 +55,21 @@ create table IF NOT EXISTS oauth_approvals (
 	scope VARCHAR(256),
 	status VARCHAR(10),
 	expiresAt TIMESTAMP,
-	lastModifiedAt TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+	lastModifiedAt TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+	INDEX idx_oauth_approvals_expires_at (expiresAt)
+);
+
+create table IF NOT EXISTS oauth_token_denylist (
+  jti VARCHAR(64) CHARACTER SET ascii PRIMARY KEY,
+  expiration DATETIME NOT NULL,
+  INDEX idx_oauth_token_denylist_expiration (expiration)
+);
+
+create table IF NOT EXISTS oauth_revoked_user (
+  user_name VARCHAR(256) PRIMARY KEY,
+  revoked_at BIGINT NOT NULL,
+  expiration DATETIME NOT NULL,
+  INDEX idx_oauth_revoked_user_expiration (expiration)
 );
 
 -- customized oauth_client_details table
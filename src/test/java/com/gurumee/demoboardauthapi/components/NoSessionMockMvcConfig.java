@@ -0,0 +1,19 @@
+package com.gurumee.demoboardauthapi.components;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Fails any MockMvc request that leaves an HttpSession behind.
+ */
+@TestConfiguration
+public class NoSessionMockMvcConfig {
+    @Bean
+    public MockMvcBuilderCustomizer noSessionCustomizer() {
+        return builder -> builder.alwaysExpect(result ->
+                assertNull(result.getRequest().getSession(false), "HttpSession was created"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.gurumee.demoboardauthapi.components;
+
+import com.gurumee.demoboardauthapi.repositories.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UsernameBloomFilterTest {
+    private AccountRepository accountRepository;
+    private UsernameBloomFilter usernameFilter;
+
+    @BeforeEach
+    public void setUp() {
+        AppProperties appProperties = AppProperties.builder()
+                .usernameFilterExpectedInsertions(1000)
+                .usernameFilterFalsePositiveProbability(0.01)
+                .build();
+        accountRepository = mock(AccountRepository.class);
+        usernameFilter = new UsernameBloomFilter(appProperties, accountRepository);
+        when(accountRepository.streamAllUsernames()).thenReturn(Stream.of("test", "gurumee"));
+    }
+
+    @Test
+    @DisplayName("mightContain 테스트 - 초기화 전에는 항상 true")
+    public void mightContainTest_not_ready() {
+        assertTrue(usernameFilter.mightContain("unknown"));
+    }
+
+    @Test
+    @DisplayName("mightContain 테스트 - 성공")
+    public void mightContainTest() {
+        usernameFilter.run(null);
+
+        assertTrue(usernameFilter.mightContain("test"));
+        assertTrue(usernameFilter.mightContain("gurumee"));
+        assertFalse(usernameFilter.mightContain("unknown"));
+    }
+
+    @Test
+    @DisplayName("mightContain 테스트 - 성공: 대소문자, 악센트만 다른 이름도 hit")
+    public void mightContainTest_case_variant() {
+        usernameFilter.run(null);
+
+        assertTrue(usernameFilter.mightContain("Test"));
+        assertTrue(usernameFilter.mightContain("TEST"));
+        assertTrue(usernameFilter.mightContain("tést"));
+        assertTrue(usernameFilter.mightContain("GuruMee"));
+    }
+
+    @Test
+    @DisplayName("add, remove 테스트 - 성공")
+    public void addAndRemoveTest() {
+        usernameFilter.run(null);
+
+        usernameFilter.add("created");
+        assertTrue(usernameFilter.mightContain("created"));
+
+        usernameFilter.remove("created");
+        assertFalse(usernameFilter.mightContain("created"));
+        assertTrue(usernameFilter.mightContain("test"));
+    }
+
+    @Test
+    @DisplayName("rebuild 테스트 - 성공: 다른 인스턴스의 생성, 삭제 반영")
+    public void rebuildTest() {
+        usernameFilter.run(null);
+        assertFalse(usernameFilter.mightContain("elsewhere"));
+
+        when(accountRepository.streamAllUsernames()).thenReturn(Stream.of("gurumee", "elsewhere"));
+        usernameFilter.rebuild();
+
+        assertTrue(usernameFilter.mightContain("elsewhere"));
+        assertTrue(usernameFilter.mightContain("gurumee"));
+        assertFalse(usernameFilter.mightContain("test"));
+    }
+}
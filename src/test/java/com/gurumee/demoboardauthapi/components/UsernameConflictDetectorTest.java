@@ -0,0 +1,60 @@
+package com.gurumee.demoboardauthapi.components;
+
+import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
+import com.gurumee.demoboardauthapi.models.entities.accounts.AccountRole;
+import com.gurumee.demoboardauthapi.repositories.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class UsernameConflictDetectorTest {
+    @Autowired
+    private UsernameConflictDetector usernameConflictDetector;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        accountRepository.deleteAll();
+        accountRepository.saveAndFlush(account("test"));
+    }
+
+    @Test
+    @DisplayName("isConflict 테스트 - 성공: 중복된 username")
+    public void isConflictTest() {
+        DataIntegrityViolationException e = assertThrows(DataIntegrityViolationException.class,
+                () -> accountRepository.saveAndFlush(account("test")));
+
+        assertTrue(usernameConflictDetector.isConflict(e));
+    }
+
+    @Test
+    @DisplayName("isConflict 테스트 - 성공: 다른 제약 조건 위반은 중복이 아님")
+    public void isConflictTest_other_violation() {
+        DataIntegrityViolationException e = assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("insert into account (id, username, role_mask) values (?, ?, ?)", -1L, "nopassword", 1));
+
+        assertFalse(usernameConflictDetector.isConflict(e));
+    }
+
+    private Account account(String username) {
+        return Account.builder()
+                .username(username)
+                .password("password")
+                .roles(Set.of(AccountRole.USER))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.gurumee.demoboardauthapi.components.clients;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.provider.NoSuchClientException;
+import org.springframework.security.oauth2.provider.client.BaseClientDetails;
+import org.springframework.security.oauth2.provider.client.JdbcClientDetailsService;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingClientDetailsServiceTest {
+    private JdbcClientDetailsService delegate;
+    private CachingClientDetailsService clientDetailsService;
+    private BaseClientDetails clientDetails;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = mock(JdbcClientDetailsService.class);
+        clientDetailsService = new CachingClientDetailsService(delegate, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        clientDetails = new BaseClientDetails("client", null, "read,write", "password", null);
+        when(delegate.loadClientByClientId("client")).thenReturn(clientDetails);
+    }
+
+    @Test
+    @DisplayName("loadClientByClientId 테스트 - 캐시 적중")
+    public void loadClientByClientIdTest_cache_hit() {
+        assertEquals(clientDetails, clientDetailsService.loadClientByClientId("client"));
+        assertEquals(clientDetails, clientDetailsService.loadClientByClientId("client"));
+
+        verify(delegate, times(1)).loadClientByClientId("client");
+    }
+
+    @Test
+    @DisplayName("updateClientSecret 테스트 - 캐시 무효화")
+    public void updateClientSecretTest() {
+        clientDetailsService.loadClientByClientId("client");
+        clientDetailsService.updateClientSecret("client", "secret");
+        clientDetailsService.loadClientByClientId("client");
+
+        verify(delegate).updateClientSecret("client", "secret");
+        verify(delegate, times(2)).loadClientByClientId("client");
+    }
+
+    @Test
+    @DisplayName("loadClientByClientId 테스트 - 실패: 존재하지 않는 클라이언트")
+    public void loadClientByClientIdTestFailed_not_exist_client() {
+        when(delegate.loadClientByClientId("fake")).thenThrow(new NoSuchClientException("No client with requested id: fake"));
+
+        assertThrows(NoSuchClientException.class, () -> clientDetailsService.loadClientByClientId("fake"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.gurumee.demoboardauthapi.components.passwords;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BoundedPasswordEncoder passwordEncoder =
+            new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, 3, meterRegistry);
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("encode 테스트 - 성공")
+    public void encodeTest() {
+        release.countDown();
+        assertEquals("encoded-test", passwordEncoder.encode("test"));
+        assertTrue(passwordEncoder.matches("test", "encoded-test"));
+    }
+
+    @Test
+    @DisplayName("encode 테스트 - 실패: 큐가 가득 찬 경우")
+    public void encodeTestFailed_queue_full() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("running"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("queued"));
+
+        while (meterRegistry.get("executor.queued").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        PasswordEncoderBusyException e = assertThrows(PasswordEncoderBusyException.class,
+                () -> passwordEncoder.encode("rejected"));
+        assertEquals(3, e.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("password.encoder.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("encoded-running", running.get(5, TimeUnit.SECONDS));
+        assertEquals("encoded-queued", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return "encoded-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
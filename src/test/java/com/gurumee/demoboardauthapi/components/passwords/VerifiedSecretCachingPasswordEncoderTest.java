@@ -0,0 +1,54 @@
+package com.gurumee.demoboardauthapi.components.passwords;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedSecretCachingPasswordEncoderTest {
+    private PasswordEncoder delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedSecretCachingPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = mock(PasswordEncoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new VerifiedSecretCachingPasswordEncoder(delegate, 100, Duration.ofMinutes(5), meterRegistry);
+        when(delegate.matches("password", "{bcrypt}encoded")).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("matches 테스트 - 검증된 시크릿 캐시 적중")
+    public void matchesTest_cache_hit() {
+        assertTrue(passwordEncoder.matches("password", "{bcrypt}encoded"));
+        assertTrue(passwordEncoder.matches("password", "{bcrypt}encoded"));
+
+        verify(delegate, times(1)).matches("password", "{bcrypt}encoded");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("matches 테스트 - 실패: 틀린 시크릿은 캐시하지 않음")
+    public void matchesTestFailed_wrong_secret() {
+        assertFalse(passwordEncoder.matches("wrong", "{bcrypt}encoded"));
+        assertFalse(passwordEncoder.matches("wrong", "{bcrypt}encoded"));
+
+        verify(delegate, times(2)).matches("wrong", "{bcrypt}encoded");
+    }
+
+    @Test
+    @DisplayName("matches 테스트 - 시크릿 변경 시 다시 검증")
+    public void matchesTest_secret_changed() {
+        when(delegate.matches("password", "{bcrypt}rotated")).thenReturn(false);
+
+        assertTrue(passwordEncoder.matches("password", "{bcrypt}encoded"));
+        assertFalse(passwordEncoder.matches("password", "{bcrypt}rotated"));
+    }
+}
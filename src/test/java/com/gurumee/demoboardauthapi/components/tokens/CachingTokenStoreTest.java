@@ -0,0 +1,89 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingTokenStoreTest {
+    private RevocableTokenStore delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingTokenStore tokenStore;
+
+    private DefaultOAuth2AccessToken accessToken;
+    private OAuth2Authentication authentication;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = mock(RevocableTokenStore.class);
+        meterRegistry = new SimpleMeterRegistry();
+        tokenStore = new CachingTokenStore(delegate, 100, Duration.ofMinutes(5), meterRegistry);
+
+        accessToken = new DefaultOAuth2AccessToken("token");
+        accessToken.setExpiration(new Date(System.currentTimeMillis() + 60000));
+        authentication = mock(OAuth2Authentication.class);
+        when(delegate.readAccessToken("token")).thenReturn(accessToken);
+        when(delegate.readAuthentication("token")).thenReturn(authentication);
+    }
+
+    @Test
+    @DisplayName("readAccessToken/readAuthentication 테스트 - 캐시 적중")
+    public void readTest_cache_hit() {
+        assertEquals(accessToken, tokenStore.readAccessToken("token"));
+        assertEquals(authentication, tokenStore.readAuthentication("token"));
+        assertEquals(accessToken, tokenStore.readAccessToken("token"));
+
+        verify(delegate, times(1)).readAccessToken("token");
+        verify(delegate, times(1)).readAuthentication("token");
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("removeAccessToken 테스트 - 캐시 무효화")
+    public void removeAccessTokenTest() {
+        tokenStore.readAccessToken("token");
+        tokenStore.removeAccessToken(accessToken);
+        tokenStore.readAccessToken("token");
+
+        verify(delegate).removeAccessToken(accessToken);
+        verify(delegate, times(2)).readAccessToken("token");
+    }
+
+    @Test
+    @DisplayName("readAccessToken 테스트 - 만료된 토큰은 캐시하지 않음")
+    public void readTest_expired_token() {
+        accessToken.setExpiration(new Date(System.currentTimeMillis() - 1000));
+        tokenStore.readAccessToken("token");
+        tokenStore.readAccessToken("token");
+
+        verify(delegate, times(2)).readAccessToken("token");
+    }
+
+    @Test
+    @DisplayName("readAccessToken 테스트 - 존재하지 않는 토큰")
+    public void readTest_not_exist_token() {
+        assertNull(tokenStore.readAccessToken("fake"));
+    }
+
+    @Test
+    @DisplayName("removeTokensByUsername 테스트 - 사용자 토큰 캐시 무효화")
+    public void removeTokensByUsernameTest() {
+        when(authentication.getName()).thenReturn("test");
+        tokenStore.readAccessToken("token");
+
+        when(delegate.readAccessToken("token")).thenReturn(null);
+        tokenStore.removeTokensByUsername("test");
+
+        verify(delegate).removeTokensByUsername("test");
+        assertNull(tokenStore.readAccessToken("token"));
+    }
+}
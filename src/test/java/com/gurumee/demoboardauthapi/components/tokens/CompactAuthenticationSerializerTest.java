@@ -0,0 +1,102 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import com.gurumee.demoboardauthapi.components.AccountAdapter;
+import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
+import com.gurumee.demoboardauthapi.models.entities.accounts.AccountRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactAuthenticationSerializerTest {
+    private final JavaAuthenticationSerializer javaSerializer = new JavaAuthenticationSerializer();
+    private final CompactAuthenticationSerializer compactSerializer = new CompactAuthenticationSerializer(javaSerializer, true);
+
+    private OAuth2Authentication authentication;
+
+    @BeforeEach
+    public void setUp() {
+        Account account = Account.builder()
+                .id(1L)
+                .username("test")
+                .password("{bcrypt}hash")
+                .roles(Set.of(AccountRole.USER))
+                .build();
+        account.setCreatedAt(LocalDateTime.of(2020, 12, 17, 4, 22, 21, 269000000));
+        account.setUpdatedAt(LocalDateTime.of(2020, 12, 18, 4, 22, 21));
+
+        AccountAdapter principal = new AccountAdapter(account);
+        UsernamePasswordAuthenticationToken userAuthentication =
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        userAuthentication.setDetails(Map.of("grant_type", "password", "username", "test"));
+
+        OAuth2Request request = new OAuth2Request(Map.of("grant_type", "password"), "client", null, true,
+                Set.of("read", "write"), null, null, null, null);
+        authentication = new OAuth2Authentication(request, userAuthentication);
+    }
+
+    @Test
+    @DisplayName("compact 직렬화 테스트 - 성공")
+    public void roundTripTest() {
+        byte[] bytes = compactSerializer.serialize(authentication);
+        assertTrue(CompactAuthenticationSerializer.isCompact(bytes));
+        assertTrue(bytes.length < javaSerializer.serialize(authentication).length);
+
+        OAuth2Authentication decoded = compactSerializer.deserialize(bytes);
+        assertEquals(authentication.getName(), decoded.getName());
+        assertEquals(authentication.getOAuth2Request().getClientId(), decoded.getOAuth2Request().getClientId());
+        assertEquals(authentication.getOAuth2Request().getScope(), decoded.getOAuth2Request().getScope());
+        assertEquals(authentication.getAuthorities(), decoded.getAuthorities());
+        assertTrue(decoded.isAuthenticated());
+
+        Account expected = ((AccountAdapter) authentication.getPrincipal()).getAccount();
+        Account account = ((AccountAdapter) decoded.getPrincipal()).getAccount();
+        assertEquals(expected.getId(), account.getId());
+        assertNull(account.getPassword());
+        assertEquals(expected.getRoles(), account.getRoles());
+        assertEquals(expected.getCreatedAt(), account.getCreatedAt());
+        assertEquals(expected.getUpdatedAt(), account.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("compact 직렬화 테스트 - 비밀번호 해시는 저장하지 않음")
+    public void passwordNotWrittenTest() {
+        byte[] bytes = compactSerializer.serialize(authentication);
+
+        assertFalse(new String(bytes, StandardCharsets.ISO_8859_1).contains("{bcrypt}hash"));
+    }
+
+    @Test
+    @DisplayName("compact 직렬화 테스트 - 길이 제한을 넘는 문자열은 Java 직렬화로 저장")
+    public void tooLongFallbackTest() {
+        String longValue = "가".repeat(30000);
+        OAuth2Request request = new OAuth2Request(Map.of("grant_type", "password", "state", longValue), "client", null, true,
+                Set.of("read"), null, null, null, null);
+        OAuth2Authentication tooLong = new OAuth2Authentication(request, authentication.getUserAuthentication());
+
+        byte[] bytes = compactSerializer.serialize(tooLong);
+        assertFalse(CompactAuthenticationSerializer.isCompact(bytes));
+
+        OAuth2Authentication decoded = compactSerializer.deserialize(bytes);
+        assertEquals(longValue, decoded.getOAuth2Request().getRequestParameters().get("state"));
+    }
+
+    @Test
+    @DisplayName("compact 직렬화 테스트 - 기존 Java 직렬화 데이터 읽기")
+    public void legacyReadTest() {
+        byte[] legacy = javaSerializer.serialize(authentication);
+        assertFalse(CompactAuthenticationSerializer.isCompact(legacy));
+
+        OAuth2Authentication decoded = compactSerializer.deserialize(legacy);
+        assertEquals(authentication.getName(), decoded.getName());
+    }
+}
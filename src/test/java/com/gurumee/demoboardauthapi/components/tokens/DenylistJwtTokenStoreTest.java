@@ -0,0 +1,100 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.common.DefaultExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class DenylistJwtTokenStoreTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JwtAccessTokenConverter converter;
+    private DenylistJwtTokenStore tokenStore;
+    private DenylistJwtTokenStore otherInstance;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        jdbcTemplate.update("delete from oauth_token_denylist");
+        jdbcTemplate.update("delete from oauth_revoked_user");
+
+        converter = new JwtAccessTokenConverter();
+        converter.setSigningKey("test-signing-key");
+        converter.afterPropertiesSet();
+        tokenStore = newTokenStore();
+        otherInstance = newTokenStore();
+    }
+
+    private DenylistJwtTokenStore newTokenStore() {
+        JdbcTokenDenylist denylist = new JdbcTokenDenylist(jdbcTemplate, 1, Duration.ZERO, Duration.ofDays(30));
+        return new DenylistJwtTokenStore(converter, denylist);
+    }
+
+    private OAuth2AccessToken issue() {
+        long now = System.currentTimeMillis();
+        DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(UUID.randomUUID().toString());
+        token.setExpiration(new Date(now + 60000));
+        token.setRefreshToken(new DefaultExpiringOAuth2RefreshToken(UUID.randomUUID().toString(), new Date(now + 120000)));
+
+        OAuth2Request request = new OAuth2Request(Collections.emptyMap(), "client", Collections.emptyList(), true,
+                Set.of("read"), Collections.emptySet(), null, Collections.emptySet(), Collections.emptyMap());
+        OAuth2Authentication authentication = new OAuth2Authentication(request,
+                new UsernamePasswordAuthenticationToken("test", "N/A", Collections.emptyList()));
+        return converter.enhance(token, authentication);
+    }
+
+    @Test
+    @DisplayName("removeAccessToken 테스트 - 성공: 캐시 크기와 무관하게 다른 인스턴스에도 적용")
+    public void removeAccessTokenTest() {
+        List<OAuth2AccessToken> tokens = List.of(issue(), issue(), issue());
+        OAuth2AccessToken valid = issue();
+
+        tokens.forEach(tokenStore::removeAccessToken);
+
+        for (OAuth2AccessToken token : tokens) {
+            assertNull(tokenStore.readAccessToken(token.getValue()));
+            assertNull(otherInstance.readAccessToken(token.getValue()));
+        }
+        assertNotNull(otherInstance.readAccessToken(valid.getValue()));
+    }
+
+    @Test
+    @DisplayName("removeRefreshToken 테스트 - 성공: refresh token 거부")
+    public void removeRefreshTokenTest() {
+        OAuth2AccessToken token = issue();
+        String refreshToken = token.getRefreshToken().getValue();
+        assertNotNull(tokenStore.readRefreshToken(refreshToken));
+
+        tokenStore.removeRefreshToken(token.getRefreshToken());
+
+        assertNull(tokenStore.readRefreshToken(refreshToken));
+        assertNull(otherInstance.readRefreshToken(refreshToken));
+    }
+
+    @Test
+    @DisplayName("removeTokensByUsername 테스트 - 성공: access, refresh token 모두 거부")
+    public void removeTokensByUsernameTest() {
+        OAuth2AccessToken token = issue();
+
+        tokenStore.removeTokensByUsername("test");
+
+        assertNull(otherInstance.readAccessToken(token.getValue()));
+        assertNull(otherInstance.readRefreshToken(token.getRefreshToken().getValue()));
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from oauth_revoked_user", Integer.class));
+    }
+}
@@ -0,0 +1,81 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.util.SerializationUtils;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class ExpiredTokenPurgerTest {
+    @Autowired
+    private ExpiredTokenPurger expiredTokenPurger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.update("delete from oauth_access_token");
+        jdbcTemplate.update("delete from oauth_refresh_token");
+        jdbcTemplate.update("delete from oauth_approvals");
+    }
+
+    @Test
+    @DisplayName("purge 테스트 - 성공: 만료된 행만 삭제")
+    public void purgeTest() {
+        Timestamp expired = new Timestamp(System.currentTimeMillis() - 60000);
+        Timestamp valid = new Timestamp(System.currentTimeMillis() + 60000);
+
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("insert into oauth_access_token (authentication_id, token_id, user_name, expiration) values (?, ?, ?, ?)",
+                    "expired-" + i, "expired-" + i, "test", expired);
+        }
+        jdbcTemplate.update("insert into oauth_access_token (authentication_id, token_id, user_name, expiration) values (?, ?, ?, ?)",
+                "valid", "valid", "test", valid);
+        jdbcTemplate.update("insert into oauth_access_token (authentication_id, token_id, user_name, token) values (?, ?, ?, ?)",
+                "legacy-expired", "legacy-expired", "test", serializedToken(expired));
+        jdbcTemplate.update("insert into oauth_access_token (authentication_id, token_id, user_name, token) values (?, ?, ?, ?)",
+                "legacy-valid", "legacy-valid", "test", serializedToken(valid));
+        jdbcTemplate.update("insert into oauth_refresh_token (token_id, expiration) values (?, ?)", "expired", expired);
+        jdbcTemplate.update("insert into oauth_approvals (userId, clientId, scope, status, expiresAt, lastModifiedAt) values (?, ?, ?, ?, ?, ?)",
+                "test", "client", "read", "APPROVED", expired, expired);
+
+        Map<String, Integer> purged = expiredTokenPurger.purge();
+
+        assertEquals(4, purged.get("oauth_access_token"));
+        assertEquals(1, purged.get("oauth_refresh_token"));
+        assertEquals(1, purged.get("oauth_approvals"));
+        assertEquals(2, jdbcTemplate.queryForObject("select count(*) from oauth_access_token", Integer.class));
+        assertEquals(valid, jdbcTemplate.queryForObject(
+                "select expiration from oauth_access_token where token_id = 'legacy-valid'", Timestamp.class));
+    }
+
+    @Test
+    @DisplayName("backfill 테스트 - 성공: 읽을 수 없는 토큰은 즉시 만료 처리")
+    public void backfillTest_undecodable() {
+        jdbcTemplate.update("insert into oauth_refresh_token (token_id, token) values (?, ?)", "broken", new byte[]{1, 2, 3});
+
+        Map<String, Integer> backfilled = expiredTokenPurger.backfill();
+
+        assertEquals(1, backfilled.get("oauth_refresh_token"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from oauth_refresh_token where expiration is null", Integer.class));
+    }
+
+    private byte[] serializedToken(Timestamp expiration) {
+        DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(UUID.randomUUID().toString());
+        token.setExpiration(new Date(expiration.getTime()));
+        return SerializationUtils.serialize(token);
+    }
+}
@@ -0,0 +1,48 @@
+package com.gurumee.demoboardauthapi.components.tokens;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+class TokenStoreQueryPlanTest {
+    private static final String KEY = "'0123456789abcdef0123456789abcdef'";
+
+    private static final List<String> HOT_QUERIES = List.of(
+            "select token_id, token from oauth_access_token where token_id = " + KEY,
+            "select token_id, authentication from oauth_access_token where token_id = " + KEY,
+            "select token_id, token from oauth_access_token where authentication_id = " + KEY,
+            "select token_id, token from oauth_access_token where user_name = 'test' and client_id = 'client'",
+            "select token_id, token from oauth_access_token where user_name = 'test'",
+            "select token_id, token from oauth_access_token where client_id = 'client'",
+            "delete from oauth_access_token where token_id = " + KEY,
+            "delete from oauth_access_token where refresh_token = " + KEY,
+            "delete from oauth_access_token where user_name = 'test'",
+            "delete from oauth_access_token where expiration < TIMESTAMP '2020-01-01 00:00:00' limit 500",
+            "select token_id, token from oauth_refresh_token where token_id = " + KEY,
+            "select token_id, authentication from oauth_refresh_token where token_id = " + KEY,
+            "delete from oauth_refresh_token where token_id = " + KEY,
+            "delete from oauth_refresh_token where token_id in (select refresh_token from oauth_access_token where user_name = 'test')",
+            "delete from oauth_refresh_token where expiration < TIMESTAMP '2020-01-01 00:00:00' limit 500",
+            "select expiration from oauth_token_denylist where jti = " + KEY,
+            "select revoked_at from oauth_revoked_user where user_name = 'test'"
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("token store query plan 테스트 - 전체 테이블 스캔 없음")
+    public void hotQueriesUseIndexTest() {
+        for (String query : HOT_QUERIES) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("explain " + query, String.class));
+            assertFalse(plan.contains("tableScan"), () -> query + " -> " + plan);
+        }
+    }
+}
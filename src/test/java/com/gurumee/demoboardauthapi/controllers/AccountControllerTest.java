@@ -2,10 +2,16 @@ package com.gurumee.demoboardauthapi.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.components.NoSessionMockMvcConfig;
 import com.gurumee.demoboardauthapi.models.dtos.accounts.CreateAccountRequestDto;
 import com.gurumee.demoboardauthapi.models.dtos.accounts.UpdateAccountRequestDto;
+import com.gurumee.demoboardauthapi.models.dtos.posts.PostResponseDto;
 import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
+import com.gurumee.demoboardauthapi.models.entities.accounts.AccountDeletionTask;
 import com.gurumee.demoboardauthapi.repositories.AccountRepository;
+import com.gurumee.demoboardauthapi.repositories.AccountDeletionTaskRepository;
+import com.gurumee.demoboardauthapi.repositories.TestPostRepositoryImpl;
+import com.gurumee.demoboardauthapi.services.AccountDeletionWorker;
 import com.gurumee.demoboardauthapi.services.AccountService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
@@ -22,8 +29,12 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.LocalDateTime;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -33,6 +44,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
+@Import(NoSessionMockMvcConfig.class)
 class AccountControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -46,10 +58,21 @@ class AccountControllerTest {
     @Autowired
     private AppProperties appProperties;
 
+    @Autowired
+    private TestPostRepositoryImpl postRepository;
+
+    @Autowired
+    private AccountDeletionTaskRepository accountDeletionTaskRepository;
+
+    @Autowired
+    private AccountDeletionWorker accountDeletionWorker;
+
     private ObjectMapper objectMapper;
 
     @BeforeEach
     public void setUp() {
+        postRepository.clear();
+        accountDeletionTaskRepository.deleteAll();
         accountRepository.deleteAll();
         CreateAccountRequestDto dto = CreateAccountRequestDto.builder()
                 .username("test")
@@ -116,6 +139,43 @@ class AccountControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("GET /api/accounts/availability 테스트 - 성공")
+    public void getAvailabilityTest() throws Exception {
+        mockMvc.perform(get("/api/accounts/availability")
+                .param("username", "test2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("username").value("test2"))
+                .andExpect(jsonPath("available").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /api/accounts/availability 테스트 - 성공: 이미 사용 중인 username")
+    public void getAvailabilityTest_exist_user() throws Exception {
+        mockMvc.perform(get("/api/accounts/availability")
+                .param("username", "test"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("username").value("test"))
+                .andExpect(jsonPath("available").value(false));
+    }
+
+    @Test
+    @DisplayName("OPTIONS /api/accounts 테스트 - 성공: preflight 요청")
+    public void preflightTest() throws Exception {
+        mockMvc.perform(options("/api/accounts")
+                .header(HttpHeaders.ORIGIN, "http://localhost:3000")
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST")
+        )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*"))
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_MAX_AGE, "3600"))
+                .andExpect(content().string(""))
+        ;
+    }
+
     private String getBearerAccessToken() throws Exception {
         ResultActions perform = mockMvc.perform(post("/oauth/token")
                 .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
@@ -149,6 +209,30 @@ class AccountControllerTest {
                 ;
     }
 
+    @Test
+    @DisplayName("GET /api/accounts/profile 테스트 - 성공: If-None-Match 일치 시 304")
+    public void getAccountTest_not_modified() throws Exception {
+        String bearerToken = getBearerAccessToken();
+        String etag = mockMvc.perform(get("/api/accounts/profile")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+        )
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/accounts/profile")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+        )
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(content().string(""))
+        ;
+    }
+
     @Test
     @DisplayName("GET /api/accounts/profile 테스트 - 실패: accessToken 존재하지 않을 때")
     public void getAccountTest_failed_not_exist_access_token() throws Exception {
@@ -213,6 +297,14 @@ class AccountControllerTest {
         account = accountRepository.findByUsername("test").get();
         System.out.println(beforeUpdatedPassword + " " + account.getPassword());
         assertNotEquals(beforeUpdatedPassword, account.getPassword());
+
+        mockMvc.perform(get("/api/accounts/profile")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+        )
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("error").value("invalid_token"))
+        ;
     }
 
     @Test
@@ -326,7 +418,7 @@ class AccountControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
         )
                 .andDo(print())
-                .andExpect(status().isOk())
+                .andExpect(status().isAccepted())
                 .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*"))
                 .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("id").exists())
@@ -336,11 +428,99 @@ class AccountControllerTest {
                 .andExpect(jsonPath("username").value("test"))
         ;
 
+        assertEquals(beforeDeletedCnt, accountRepository.count());
+        assertEquals(1, accountDeletionTaskRepository.count());
+
+        mockMvc.perform(get("/api/accounts/profile")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+        )
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("error").value("invalid_token"))
+        ;
+
+        accountDeletionWorker.drain();
+
         long afterDeletedCnt = accountRepository.count();
         assertEquals(beforeDeletedCnt-1, afterDeletedCnt);
 
     }
 
+    @Test
+    @DisplayName("DELETE /api/accounts/profile 테스트 - 성공: 작성한 포스트 일괄 삭제")
+    public void deleteAccountTest_with_posts() throws Exception {
+        for (long id = 1; id <= 250; id++) {
+            postRepository.save(PostResponseDto.builder().id(id).owner_name("test").build());
+        }
+        postRepository.save(PostResponseDto.builder().id(251L).owner_name("other").build());
+
+        String bearerToken = getBearerAccessToken();
+        mockMvc.perform(delete("/api/accounts/profile")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("username").value("test"))
+        ;
+
+        accountDeletionWorker.drain();
+
+        assertEquals(0, accountDeletionTaskRepository.count());
+        assertEquals(0, postRepository.getPostListByUsername("test").size());
+        assertEquals(1, postRepository.getPostListByUsername("other").size());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/accounts/profile 테스트 - 성공: POST API 장애 시 재시도 대기")
+    public void deleteAccountTest_post_api_unavailable() throws Exception {
+        postRepository.save(PostResponseDto.builder().id(1L).owner_name("test").build());
+        postRepository.setUnavailable(true);
+        long beforeDeletedCnt = accountRepository.count();
+
+        String bearerToken = getBearerAccessToken();
+        mockMvc.perform(delete("/api/accounts/profile")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andDo(print())
+                .andExpect(status().isAccepted())
+        ;
+
+        accountDeletionWorker.drain();
+
+        assertEquals(beforeDeletedCnt, accountRepository.count());
+        AccountDeletionTask task = accountDeletionTaskRepository.findAll().get(0);
+        assertEquals(1, task.getAttempts());
+        assertTrue(task.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(1, postRepository.getPostListByUsername("test").size());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/accounts/profile 테스트 - 실패: 재시도 횟수 초과 시 failed 처리")
+    public void deleteAccountTest_post_api_gave_up() throws Exception {
+        postRepository.save(PostResponseDto.builder().id(1L).owner_name("test").build());
+        postRepository.setUnavailable(true);
+
+        mockMvc.perform(delete("/api/accounts/profile")
+                .header(HttpHeaders.AUTHORIZATION, getBearerAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andExpect(status().isAccepted());
+
+        AccountDeletionTask task = accountDeletionTaskRepository.findAll().get(0);
+        task.setAttempts(appProperties.getAccountDeletionMaxAttempts() - 1);
+        accountDeletionTaskRepository.save(task);
+
+        accountDeletionWorker.drain();
+
+        task = accountDeletionTaskRepository.findAll().get(0);
+        assertEquals(appProperties.getAccountDeletionMaxAttempts(), task.getAttempts());
+        assertNotNull(task.getFailedAt());
+        assertTrue(accountDeletionTaskRepository.findByFailedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                LocalDateTime.now().plusYears(1), PageRequest.of(0, 10)).isEmpty());
+    }
+
     @Test
     @DisplayName("DELETE /api/accounts/profile 테스트 - 실패: accessToken 존재하지 않을 때")
     public void deleteAccountTest_failed_not_exist_access_token() throws Exception {
@@ -0,0 +1,230 @@
+package com.gurumee.demoboardauthapi.controllers;
+
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.components.NoSessionMockMvcConfig;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.CreateAccountRequestDto;
+import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
+import com.gurumee.demoboardauthapi.models.entities.accounts.AccountRole;
+import com.gurumee.demoboardauthapi.repositories.AccountDeletionTaskRepository;
+import com.gurumee.demoboardauthapi.repositories.AccountRepository;
+import com.gurumee.demoboardauthapi.services.AccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Import(NoSessionMockMvcConfig.class)
+class AdminAccountControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountDeletionTaskRepository accountDeletionTaskRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    @BeforeEach
+    public void setUp() {
+        accountDeletionTaskRepository.deleteAll();
+        accountRepository.deleteAll();
+        accountService.saveAccount(CreateAccountRequestDto.builder()
+                .username("test")
+                .password("test")
+                .build());
+        accountRepository.save(Account.builder()
+                .username("admin")
+                .password(passwordEncoder.encode("admin"))
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+    }
+
+    private String getBearerAccessToken(String username, String password) throws Exception {
+        ResultActions perform = mockMvc.perform(post("/oauth/token")
+                .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+                .param("username", username)
+                .param("password", password)
+                .param("grant_type", "password"));
+
+        String responseBody = perform.andReturn().getResponse().getContentAsString();
+        Jackson2JsonParser parser = new Jackson2JsonParser();
+        String token = parser.parseMap(responseBody).get("access_token").toString();
+        return "Bearer " + token;
+    }
+
+    private ResultActions awaitImport(ResultActions submitted, String bearerToken) throws Exception {
+        String location = submitted.andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        Jackson2JsonParser parser = new Jackson2JsonParser();
+
+        for (int i = 0; i < 100; i++) {
+            ResultActions polled = mockMvc.perform(get(location).header("Authorization", bearerToken));
+            Object status = parser.parseMap(polled.andReturn().getResponse().getContentAsString()).get("status");
+
+            if ("COMPLETED".equals(status) || "FAILED".equals(status)) {
+                return polled;
+            }
+
+            Thread.sleep(100);
+        }
+
+        return fail("import did not finish");
+    }
+
+    @Test
+    @DisplayName("POST /api/admin/accounts/import 테스트 - 성공: NDJSON")
+    public void importAccountsTest_ndjson() throws Exception {
+        String body = "{\"username\":\"import1\",\"password\":\"pass1\"}\n"
+                + "{\"username\":\"import2\",\"password\":\"pass2\"}\n"
+                + "\n"
+                + "{\"username\":\"import1\",\"password\":\"again\"}\n"
+                + "{\"username\":\"test\",\"password\":\"test\"}\n"
+                + "{\"username\":\"import3\"\n";
+
+        String bearerToken = getBearerAccessToken("admin", "admin");
+        ResultActions submitted = mockMvc.perform(post("/api/admin/accounts/import")
+                .header("Authorization", bearerToken)
+                .contentType(AdminAccountController.NDJSON_VALUE)
+                .content(body))
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists(HttpHeaders.LOCATION))
+                .andExpect(jsonPath("id").exists());
+
+        awaitImport(submitted, bearerToken)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("status").value("COMPLETED"))
+                .andExpect(jsonPath("rows").value(5))
+                .andExpect(jsonPath("imported").value(2))
+                .andExpect(jsonPath("rejected").value(3))
+                .andExpect(jsonPath("report.imported").value(2))
+                .andExpect(jsonPath("report.rejected").value(3))
+                .andExpect(jsonPath("report.batches[0].rows").value(5))
+                .andExpect(jsonPath("report.batches[0].rows_per_second").exists())
+                .andExpect(jsonPath("report.rejections[0].line").value(4))
+                .andExpect(jsonPath("report.rejections[0].reason").value("duplicate username in import"))
+                .andExpect(jsonPath("report.rejections[1].line").value(6))
+                .andExpect(jsonPath("report.rejections[1].reason").value("malformed row"))
+                .andExpect(jsonPath("report.rejections[2].username").value("test"))
+                .andExpect(jsonPath("report.rejections[2].reason").value("username already exists"));
+
+        Account imported = accountRepository.findByUsername("import1").get();
+        assertTrue(passwordEncoder.matches("pass1", imported.getPassword()));
+        assertTrue(accountRepository.findByUsername("import2").isPresent());
+    }
+
+    @Test
+    @DisplayName("POST /api/admin/accounts/import 테스트 - 성공: CSV")
+    public void importAccountsTest_csv() throws Exception {
+        String body = "username,password\n"
+                + "csv1,pass,with,comma\n"
+                + "csv2,pass2\n";
+
+        String bearerToken = getBearerAccessToken("admin", "admin");
+        ResultActions submitted = mockMvc.perform(post("/api/admin/accounts/import")
+                .header("Authorization", bearerToken)
+                .contentType(AdminAccountController.CSV_VALUE)
+                .content(body))
+                .andDo(print())
+                .andExpect(status().isAccepted());
+
+        awaitImport(submitted, bearerToken)
+                .andDo(print())
+                .andExpect(jsonPath("status").value("COMPLETED"))
+                .andExpect(jsonPath("report.imported").value(2))
+                .andExpect(jsonPath("report.rejected").value(0));
+
+        Account imported = accountRepository.findByUsername("csv1").get();
+        assertTrue(passwordEncoder.matches("pass,with,comma", imported.getPassword()));
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/accounts/import/{id} 테스트 - 실패: 존재하지 않는 import")
+    public void getImportTestFailed_not_found() throws Exception {
+        mockMvc.perform(get("/api/admin/accounts/import/unknown")
+                .header("Authorization", getBearerAccessToken("admin", "admin")))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/accounts/export 테스트 - 성공")
+    public void exportAccountsTest() throws Exception {
+        accountService.saveAccount(CreateAccountRequestDto.builder()
+                .username("test2")
+                .password("test")
+                .build());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/admin/accounts/export")
+                .header("Authorization", getBearerAccessToken("admin", "admin")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(3600000L, mvcResult.getRequest().getAsyncContext().getTimeout());
+
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, AdminAccountController.NDJSON_VALUE))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+
+        Jackson2JsonParser parser = new Jackson2JsonParser();
+        assertEquals("test", parser.parseMap(lines[0]).get("username"));
+        assertEquals("[ADMIN, USER]", parser.parseMap(lines[1]).get("role"));
+        assertEquals("test2", parser.parseMap(lines[2]).get("username"));
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/accounts/export 테스트 - 실패: 관리자가 아닌 경우")
+    public void exportAccountsTestFailed_not_admin() throws Exception {
+        mockMvc.perform(get("/api/admin/accounts/export")
+                .header("Authorization", getBearerAccessToken("test", "test")))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("POST /api/admin/accounts/import 테스트 - 실패: 관리자가 아닌 경우")
+    public void importAccountsTestFailed_not_admin() throws Exception {
+        mockMvc.perform(post("/api/admin/accounts/import")
+                .header("Authorization", getBearerAccessToken("test", "test"))
+                .contentType(AdminAccountController.NDJSON_VALUE)
+                .content("{\"username\":\"import1\",\"password\":\"pass1\"}\n"))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+}
@@ -2,6 +2,7 @@ package com.gurumee.demoboardauthapi.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.components.NoSessionMockMvcConfig;
 import com.gurumee.demoboardauthapi.models.dtos.accounts.CreateAccountRequestDto;
 import com.gurumee.demoboardauthapi.repositories.AccountRepository;
 import com.gurumee.demoboardauthapi.services.AccountService;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
@@ -25,6 +27,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@Import(NoSessionMockMvcConfig.class)
 public class OAuthControllerTest {
     @Autowired
     private MockMvc mockMvc;
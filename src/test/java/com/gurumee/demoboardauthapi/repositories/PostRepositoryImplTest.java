@@ -0,0 +1,167 @@
+package com.gurumee.demoboardauthapi.repositories;
+
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.components.clients.ServiceTokenProvider;
+import com.gurumee.demoboardauthapi.models.dtos.posts.PostResponseDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class PostRepositoryImplTest {
+    private MockRestServiceServer server;
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+    private PostRepositoryImpl postRepository;
+
+    @BeforeEach
+    public void setUp() {
+        AppProperties appProperties = AppProperties.builder()
+                .resourcePostEndpointUrl("http://localhost:8081")
+                .postClientPageSize(2)
+                .postClientPageSizeParam("size")
+                .postClientCursorParam("cursor")
+                .postClientDeleteChunkSize(100)
+                .postClientDeleteMaxInFlight(1)
+                .build();
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        circuitBreaker = CircuitBreaker.ofDefaults("post-api");
+        ServiceTokenProvider serviceTokenProvider = mock(ServiceTokenProvider.class);
+        when(serviceTokenProvider.getAuthorization()).thenReturn("Bearer service-token");
+        bulkhead = Bulkhead.ofDefaults("post-api");
+        postRepository = new PostRepositoryImpl(appProperties, restTemplate, circuitBreaker, bulkhead, serviceTokenProvider);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        postRepository.shutdown();
+    }
+
+    @Test
+    @DisplayName("forEachPostIdByUsername 테스트 - 성공: 커서 페이지 순회")
+    public void forEachPostIdByUsernameTest() {
+        server.expect(requestTo("http://localhost:8081/api/posts?username=test&size=2"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("[{\"id\":1,\"title\":\"a\",\"tags\":[1,2]},{\"id\":2,\"title\":\"b\"}]", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("http://localhost:8081/api/posts?username=test&size=2&cursor=2"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("[{\"id\":3,\"owner_name\":\"test\"}]", MediaType.APPLICATION_JSON));
+
+        List<Long> ids = new ArrayList<>();
+        postRepository.forEachPostIdByUsername("test", ids::add);
+
+        assertEquals(List.of(1L, 2L, 3L), ids);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("forEachPostIdByUsername 테스트 - 성공: 페이지 조회가 끝난 뒤 consumer 호출")
+    public void forEachPostIdByUsernameTest_consumer_outside_call() {
+        server.expect(requestTo("http://localhost:8081/api/posts?username=test&size=2"))
+                .andRespond(withSuccess("[{\"id\":1},{\"id\":2}]", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("http://localhost:8081/api/posts?username=test&size=2&cursor=2"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        int maxConcurrentCalls = bulkhead.getBulkheadConfig().getMaxConcurrentCalls();
+        List<Integer> availablePermits = new ArrayList<>();
+        postRepository.forEachPostIdByUsername("test", id -> availablePermits.add(bulkhead.getMetrics().getAvailableConcurrentCalls()));
+
+        assertEquals(List.of(maxConcurrentCalls, maxConcurrentCalls), availablePermits);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("getPostListByUsername 테스트 - 성공")
+    public void getPostListByUsernameTest() {
+        server.expect(requestTo("http://localhost:8081/api/posts?username=test&size=2"))
+                .andRespond(withSuccess("[{\"id\":1,\"title\":\"a\",\"owner_name\":\"test\"}]", MediaType.APPLICATION_JSON));
+
+        List<PostResponseDto> posts = postRepository.getPostListByUsername("test");
+
+        assertEquals(1, posts.size());
+        assertEquals("a", posts.get(0).getTitle());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("deletePosts 테스트 - 성공: chunk 단위로 나눠 동시 요청 수 제한")
+    public void deletePostsTest_chunked() {
+        AppProperties appProperties = AppProperties.builder()
+                .resourcePostEndpointUrl("http://localhost:8081")
+                .postClientDeleteChunkSize(3)
+                .postClientDeleteMaxInFlight(2)
+                .build();
+        List<Integer> chunkSizes = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            String ids = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("ids");
+            chunkSizes.add(ids.split(",").length);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        });
+        ServiceTokenProvider serviceTokenProvider = mock(ServiceTokenProvider.class);
+        when(serviceTokenProvider.getAuthorization()).thenReturn("Bearer service-token");
+        PostRepositoryImpl chunkedRepository = new PostRepositoryImpl(appProperties, restTemplate,
+                CircuitBreaker.ofDefaults("post-api"), Bulkhead.ofDefaults("post-api"), serviceTokenProvider);
+
+        try {
+            assertTrue(chunkedRepository.deletePosts(LongStream.rangeClosed(1, 10).boxed().collect(Collectors.toList())));
+        } finally {
+            chunkedRepository.shutdown();
+        }
+
+        List<Integer> sorted = new ArrayList<>(chunkSizes);
+        Collections.sort(sorted);
+        assertEquals(List.of(1, 3, 3, 3), sorted);
+        assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    @DisplayName("deletePosts 테스트 - 실패: 서킷 브레이커가 열린 경우")
+    public void deletePostsTestFailed_circuit_open() {
+        circuitBreaker.transitionToOpenState();
+
+        assertFalse(postRepository.deletePosts(List.of(1L, 2L)));
+        assertThrows(CallNotPermittedException.class, () -> postRepository.getPostListByUsername("test"));
+        server.verify();
+    }
+}
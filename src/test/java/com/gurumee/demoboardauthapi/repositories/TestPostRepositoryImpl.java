@@ -4,19 +4,56 @@ import com.gurumee.demoboardauthapi.models.dtos.posts.PostResponseDto;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Repository
 @Profile("test")
 public class TestPostRepositoryImpl implements PostRepository {
+    private final Map<Long, PostResponseDto> posts = new ConcurrentHashMap<>();
+    private volatile boolean unavailable;
+
+    public void save(PostResponseDto post) {
+        posts.put(post.getId(), post);
+    }
+
+    public void clear() {
+        posts.clear();
+        unavailable = false;
+    }
+
+    public void setUnavailable(boolean unavailable) {
+        this.unavailable = unavailable;
+    }
+
     @Override
     public List<PostResponseDto> getPostListByUsername(String username) {
-        return new ArrayList<>();
+        return posts.values().stream()
+                .filter(post -> username.equals(post.getOwner_name()))
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void forEachPostIdByUsername(String username, Consumer<Long> consumer) {
+        getPostListByUsername(username).forEach(post -> consumer.accept(post.getId()));
     }
 
     @Override
     public PostResponseDto deletePost(String token, Long id) {
-        return null;
+        return posts.remove(id);
+    }
+
+    @Override
+    public boolean deletePosts(List<Long> ids) {
+        if (unavailable) {
+            return false;
+        }
+
+        ids.forEach(posts::remove);
+        return true;
     }
 }
@@ -0,0 +1,62 @@
+package com.gurumee.demoboardauthapi.services;
+
+import com.gurumee.demoboardauthapi.components.AppProperties;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.AccountImportJobResponseDto;
+import com.gurumee.demoboardauthapi.models.dtos.accounts.AccountImportResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AccountImportJobServiceTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AccountImportJobService accountImportJobService;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        AppProperties appProperties = AppProperties.builder()
+                .accountImportJobRetentionSeconds(1)
+                .build();
+        AccountImportService accountImportService = mock(AccountImportService.class);
+        when(accountImportService.importAccounts(any(), any(), any())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return AccountImportResponseDto.builder().imported(1).build();
+        });
+        accountImportJobService = new AccountImportJobService(accountImportService, appProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        accountImportJobService.destroy();
+    }
+
+    @Test
+    @DisplayName("find 테스트 - 성공: 대기 중인 작업은 보관 기간이 지나도 조회 가능")
+    public void findTest_queued_outlives_retention() throws Exception {
+        accountImportJobService.submit(new ByteArrayInputStream(new byte[0]), AccountImportService.Format.NDJSON);
+        String queued = accountImportJobService
+                .submit(new ByteArrayInputStream(new byte[0]), AccountImportService.Format.NDJSON).getId();
+
+        Thread.sleep(1500);
+
+        AccountImportJobResponseDto job = accountImportJobService.find(queued).orElseThrow();
+        assertEquals(AccountImportJobService.Status.QUEUED.name(), job.getStatus());
+
+        release.countDown();
+        for (int i = 0; i < 100 && !AccountImportJobService.Status.COMPLETED.name().equals(job.getStatus()); i++) {
+            Thread.sleep(50);
+            job = accountImportJobService.find(queued).orElseThrow();
+        }
+        assertEquals(AccountImportJobService.Status.COMPLETED.name(), job.getStatus());
+        assertEquals(1, job.getImported());
+    }
+}
@@ -0,0 +1,85 @@
+package com.gurumee.demoboardauthapi.services;
+
+import com.gurumee.demoboardauthapi.models.dtos.accounts.AccountImportResponseDto;
+import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
+import com.gurumee.demoboardauthapi.repositories.AccountRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class AccountImportServiceTest {
+    private static final int ROWS = 20;
+
+    @Autowired
+    private AccountImportService accountImportService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("importAccounts 테스트 - 성공: insert가 JDBC 배치로 실행")
+    public void importAccountsTest_batched_inserts() throws Exception {
+        StringBuilder body = new StringBuilder();
+
+        for (int i = 0; i < ROWS; i++) {
+            body.append("batch").append(i).append(",password\n");
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        AccountImportResponseDto report = accountImportService.importAccounts(
+                new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)), AccountImportService.Format.CSV);
+
+        assertEquals(ROWS, report.getImported());
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        // one batched insert statement plus at most a sequence call or two, instead of one statement per row
+        assertTrue(statistics.getPrepareStatementCount() < ROWS / 2,
+                "prepared statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("importAccounts 테스트 - 성공: 잘못된 행만 거절하고 나머지는 계속 import")
+    public void importAccountsTest_bad_rows() throws Exception {
+        // inserted behind the username filter's back, so only the unique key catches it
+        jdbcTemplate.update("insert into account (id, username, password, role_mask) values (?, ?, ?, ?)",
+                -1L, "unseen", "{noop}password", 2);
+        String body = "ok1,password\n"
+                + "x".repeat(Account.USERNAME_MAX_LENGTH + 1) + ",password\n"
+                + "unseen,password\n"
+                + "ok2,password\n";
+
+        AccountImportResponseDto report = accountImportService.importAccounts(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), AccountImportService.Format.CSV);
+
+        assertEquals(2, report.getImported());
+        assertEquals(2, report.getRejected());
+        assertEquals("username is too long", report.getRejections().get(0).getReason());
+        assertEquals("username already exists", report.getRejections().get(1).getReason());
+        assertTrue(accountRepository.findByUsername("ok1").isPresent());
+        assertTrue(accountRepository.findByUsername("ok2").isPresent());
+    }
+}
@@ -1,6 +1,7 @@
 package com.gurumee.demoboardauthapi.services;
 
 import com.gurumee.demoboardauthapi.components.AccountAdapter;
+import com.gurumee.demoboardauthapi.components.AccountCache;
 import com.gurumee.demoboardauthapi.models.dtos.accounts.CreateAccountRequestDto;
 import com.gurumee.demoboardauthapi.models.dtos.accounts.UpdateAccountRequestDto;
 import com.gurumee.demoboardauthapi.models.entities.accounts.Account;
@@ -11,13 +12,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest
 class AccountServiceTest {
@@ -25,12 +32,18 @@ class AccountServiceTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
-    @Autowired
+    @SpyBean
     private AccountRepository accountRepository;
 
     @Autowired
     private AccountService accountService;
 
+    @Autowired
+    private AccountCache accountCache;
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
     @BeforeEach
     public void setUp() {
         accountRepository.deleteAll();
@@ -71,6 +84,53 @@ class AccountServiceTest {
         assertTrue(accountOrNull.isEmpty());
     }
 
+    @Test
+    @DisplayName("saveAccountTest - 성공: 동시 가입 시 유저이름마다 하나만 생성")
+    public void saveTest_concurrent() throws Exception {
+        List<String> usernames = List.of("race1", "race2", "race3", "race4");
+        int attempts = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Optional<Account>>> tasks = new ArrayList<>();
+
+        for (String username : usernames) {
+            CreateAccountRequestDto dto = CreateAccountRequestDto.builder()
+                    .username(username)
+                    .password("test")
+                    .build();
+
+            for (int i = 0; i < attempts; i++) {
+                tasks.add(() -> {
+                    start.await();
+                    return accountService.saveAccount(dto);
+                });
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+
+        try {
+            List<Future<Optional<Account>>> futures = new ArrayList<>();
+            for (Callable<Optional<Account>> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            Map<String, Integer> winners = new HashMap<>();
+            for (Future<Optional<Account>> future : futures) {
+                future.get(30, TimeUnit.SECONDS)
+                        .ifPresent(account -> winners.merge(account.getUsername(), 1, Integer::sum));
+            }
+
+            for (String username : usernames) {
+                assertEquals(1, winners.get(username));
+                assertTrue(accountRepository.findByUsername(username).isPresent());
+            }
+            assertEquals(usernames.size() + 1, accountRepository.count());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     // loadByUsername test
     @Test
     @DisplayName("loadByUsernameTest - 성공")
@@ -87,6 +147,52 @@ class AccountServiceTest {
         assertEquals(Set.of(AccountRole.USER), account.getRoles());
     }
 
+    @Test
+    @DisplayName("loadByUsernameTest - 성공: 동시 조회")
+    public void loadUserByUsernameTest_concurrent() throws Exception {
+        String name = "test";
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<UserDetails>> tasks = Collections.nCopies(16, () -> {
+            start.await();
+            return accountService.loadUserByUsername(name);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        accountCache.evict(name);
+        clearInvocations(accountRepository);
+
+        try {
+            List<Future<UserDetails>> futures = new ArrayList<>();
+            for (Callable<UserDetails> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            for (Future<UserDetails> future : futures) {
+                assertEquals(name, future.get(30, TimeUnit.SECONDS).getUsername());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        verify(accountRepository, times(1)).findByUsername(name);
+    }
+
+    @Test
+    @DisplayName("loadByUsernameTest - 성공: update 후 캐시 갱신")
+    public void loadUserByUsernameTest_after_update() {
+        String name = "test";
+        String updatePassword = "updated";
+        Account account = ((AccountAdapter) accountService.loadUserByUsername(name)).getAccount();
+        UpdateAccountRequestDto dto = UpdateAccountRequestDto.builder()
+                .password(updatePassword)
+                .password_check(updatePassword)
+                .build();
+        accountService.update(account, dto);
+
+        UserDetails loaded = accountService.loadUserByUsername(name);
+        assertTrue(passwordEncoder.matches(updatePassword, loaded.getPassword()));
+    }
+
     @Test
     @DisplayName("loadByUsernameTest - 실패: 존재하지 않는 유저이름")
     public void loadUserByUsernameFailed_not_exist_user() {
@@ -133,7 +239,20 @@ class AccountServiceTest {
         assertTrue(updateOrNull.isEmpty());
     }
 
+    // password upgrade test
+    @Test
+    @DisplayName("updatePasswordTest - 성공: 로그인 시 낮은 강도의 해시 재암호화")
+    public void updatePasswordTest_upgrade_on_login() {
+        Account account = accountRepository.findByUsername("test").get();
+        account.setPassword("{bcrypt}" + new BCryptPasswordEncoder(4).encode("test"));
+        accountRepository.save(account);
+        accountCache.evict("test");
 
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken("test", "test"));
 
-
-}
\ No newline at end of file
+        String upgraded = accountRepository.findByUsername("test").get().getPassword();
+        assertFalse(upgraded.startsWith("{bcrypt}$2a$04$"));
+        assertFalse(passwordEncoder.upgradeEncoding(upgraded));
+        assertTrue(passwordEncoder.matches("test", upgraded));
+    }
+}